@@ -7,8 +7,10 @@ import net.minecraft.world.item.BucketItem;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.material.Fluids;
 import net.neoforged.neoforge.capabilities.Capabilities;
+import net.neoforged.neoforge.fluids.FluidStack;
 import net.neoforged.neoforge.fluids.FluidType;
 import net.neoforged.neoforge.network.PacketDistributor;
+import net.neoforged.neoforge.transfer.ResourceHandler;
 import net.neoforged.neoforge.transfer.access.ItemAccess;
 import net.neoforged.neoforge.transfer.fluid.FluidResource;
 import net.neoforged.neoforge.transfer.fluid.FluidUtil;
@@ -61,80 +63,115 @@ public interface IFluidTankHandler {
 
     /**
      * Handles item usage relating to the tank. Will try to fill/empty containers, depending on the button used to click.
+     * {@link net.pedroksl.ae2addonlib.core.network.serverPacket.FluidTankItemUsePacket} sends every single container
+     * interaction that was not predicted by the client through this method, so overriding it customizes them. Bulk
+     * and predicted interactions use {@link #onItemUse(int, int, boolean)} instead.
      * @param index The tank index.
      * @param button The button used to interact with the tank.
      */
     default void onItemUse(int index, int button) {
+        sendItemUseFeedback(onItemUse(index, button, false));
+    }
+
+    /**
+     * Handles item usage relating to the tank. Will try to fill/empty containers, depending on the button used to click.
+     * In bulk mode, the whole carried stack is processed in a single transaction, instead of one container and at
+     * most one bucket per interaction. This method never plays a sound: callers that want feedback must pass the
+     * result to {@link #sendItemUseFeedback(long)}, as {@link #onItemUse(int, int)} and
+     * {@link net.pedroksl.ae2addonlib.core.network.serverPacket.FluidTankItemUsePacket} do.
+     * @param index The tank index.
+     * @param button The button used to interact with the tank.
+     * @param bulk True if the whole carried stack should be processed.
+     * @return The amount of fluid moved. Positive if it was inserted into the tank, negative if it was extracted.
+     */
+    default long onItemUse(int index, int button, boolean bulk) {
         var stack = getCarriedItem();
-        if (!stack.isEmpty()) {
-
-            var handler = ItemAccess.forPlayerCursor(getServerPlayer(), getServerPlayer().containerMenu)
-                    .oneByOne()
-                    .getCapability(Capabilities.Fluid.ITEM);
-            if (handler != null) {
-
-                var tank = getTank();
-                if (tank == null) return;
-
-                boolean isBucket = stack.getItem() instanceof BucketItem;
-                if ((!isBucket && button == GLFW.GLFW_MOUSE_BUTTON_LEFT)
-                        || (isBucket && ((BucketItem) stack.getItem()).content == Fluids.EMPTY)) {
-                    if (!canExtractFromTank(index)) return;
-
-                    var genStack = tank.getStack(index);
-                    if (genStack != null && genStack.what() != null) {
-                        var fluid = ((AEFluidKey) genStack.what()).toStack((int) genStack.amount());
-
-                        var extracted = Math.min(genStack.amount(), FluidType.BUCKET_VOLUME);
-
-                        try (var tx = Transaction.openRoot()) {
-                            int inserted = handler.insert(FluidResource.of(fluid), (int) extracted, tx);
-                            if (inserted == 0) {
-                                return;
-                            }
-
-                            var endAmount = genStack.amount() - inserted;
-                            if (endAmount > 0) {
-                                tank.setStack(index, new GenericStack(genStack.what(), genStack.amount() - inserted));
-                            } else {
-                                tank.setStack(index, null);
-                            }
-                            tx.commit();
-
-                            if (inserted > 0) {
-                                PacketDistributor.sendToPlayer(getServerPlayer(), new FluidTankClientAudioPacket(true));
-                            }
-                        }
-                    }
-                } else {
-                    if (!canInsertInto(index)
-                            || FluidUtil.getFirstStackContained(stack).isEmpty()) return;
-
-                    var fluid = FluidUtil.getFirstStackContained(stack);
-                    var genStack = GenericStack.fromFluidStack(fluid);
-                    if (genStack != null && genStack.what() != null) {
-                        try (var tx = Transaction.openRoot()) {
-                            int extracted = handler.extract(FluidResource.of(fluid), FluidType.BUCKET_VOLUME, tx);
-                            if (extracted == 0) {
-                                return;
-                            }
-
-                            var inserted = tank.insert(index, genStack.what(), extracted, Actionable.MODULATE);
-                            var toReturn = extracted - inserted;
-                            if (toReturn > 0) {
-                                if (handler.insert(FluidResource.of(fluid), (int) (extracted - inserted), tx)
-                                        < toReturn) {
-                                    return;
-                                }
-                            }
-
-                            tx.commit();
-
-                            PacketDistributor.sendToPlayer(getServerPlayer(), new FluidTankClientAudioPacket(true));
-                        }
-                    }
-                }
+        if (stack.isEmpty()) return 0;
+
+        var access = ItemAccess.forPlayerCursor(getServerPlayer(), getServerPlayer().containerMenu);
+        if (!bulk) {
+            access = access.oneByOne();
+        }
+
+        var handler = access.getCapability(Capabilities.Fluid.ITEM);
+        if (handler == null) return 0;
+
+        var tank = getTank();
+        if (tank == null) return 0;
+
+        var limit = bulk ? Integer.MAX_VALUE : FluidType.BUCKET_VOLUME;
+        long moved;
+        boolean isBucket = stack.getItem() instanceof BucketItem;
+        if ((!isBucket && button == GLFW.GLFW_MOUSE_BUTTON_LEFT)
+                || (isBucket && ((BucketItem) stack.getItem()).content == Fluids.EMPTY)) {
+            if (!canExtractFromTank(index)) return 0;
+            moved = -fillFromTank(handler, tank, index, limit);
+        } else {
+            if (!canInsertInto(index)) return 0;
+            moved = emptyIntoTank(handler, FluidUtil.getFirstStackContained(stack), tank, index, limit);
+        }
+
+        return moved;
+    }
+
+    /**
+     * Sends the sound feedback of an item use to the player. Only used for interactions the client did not predict,
+     * predicted ones play their sound on the client right away.
+     * @param moved The amount returned by {@link #onItemUse(int, int, boolean)}. Nothing is sent if it is 0.
+     */
+    default void sendItemUseFeedback(long moved) {
+        if (moved != 0) {
+            PacketDistributor.sendToPlayer(getServerPlayer(), new FluidTankClientAudioPacket(moved > 0));
+        }
+    }
+
+    private static long fillFromTank(
+            ResourceHandler<FluidResource> handler, GenericStackInv tank, int index, int limit) {
+        var genStack = tank.getStack(index);
+        if (genStack == null || !(genStack.what() instanceof AEFluidKey fluidKey)) return 0;
+
+        var resource = FluidResource.of(fluidKey.toStack(1));
+        var toExtract = (int) Math.min(genStack.amount(), limit);
+
+        try (var tx = Transaction.openRoot()) {
+            int inserted = handler.insert(resource, toExtract, tx);
+            if (inserted <= 0) return 0;
+
+            // The tank is not part of the transaction, so it must only change right before the commit
+            var endAmount = genStack.amount() - inserted;
+            tank.setStack(index, endAmount > 0 ? new GenericStack(fluidKey, endAmount) : null);
+            tx.commit();
+            return inserted;
+        }
+    }
+
+    private static long emptyIntoTank(
+            ResourceHandler<FluidResource> handler, FluidStack fluid, GenericStackInv tank, int index, int limit) {
+        if (fluid.isEmpty()) return 0;
+
+        var genStack = GenericStack.fromFluidStack(fluid);
+        if (genStack == null || genStack.what() == null) return 0;
+
+        // Only drain what the tank can take, so bulk transfers do not need to put fluid back into the container
+        var space = (int) Math.min(limit, tank.insert(index, genStack.what(), limit, Actionable.SIMULATE));
+        if (space <= 0) return 0;
+
+        var resource = FluidResource.of(fluid);
+        try (var tx = Transaction.openRoot()) {
+            int extracted = handler.extract(resource, space, tx);
+            if (extracted <= 0) return 0;
+
+            // Settle the container side first, the tank is not part of the transaction and cannot be rolled back
+            var toInsert = Math.min(extracted, tank.insert(index, genStack.what(), extracted, Actionable.SIMULATE));
+            var toReturn = extracted - toInsert;
+            if (toReturn > 0 && handler.insert(resource, (int) toReturn, tx) < toReturn) {
+                return 0;
             }
+            if (toInsert <= 0) return 0;
+
+            var inserted = tank.insert(index, genStack.what(), toInsert, Actionable.MODULATE);
+            tx.commit();
+            return inserted;
         }
     }
 }
@@ -1,9 +1,12 @@
 package net.pedroksl.ae2addonlib.api;
 
+import org.jetbrains.annotations.Nullable;
+
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.resources.sounds.SimpleSoundInstance;
 import net.minecraft.sounds.SoundEvents;
 import net.neoforged.neoforge.fluids.FluidStack;
+import net.pedroksl.ae2addonlib.client.widgets.FluidTankSlot;
 
 /**
  * Marks a screen as compatible with {@link net.pedroksl.ae2addonlib.client.widgets.FluidTankSlot}.
@@ -17,6 +20,29 @@ public interface IFluidTankScreen {
      */
     void updateFluidTankContents(int index, FluidStack stack);
 
+    /**
+     * Method called whenever a tank was interacted with and needs to update.
+     * Override this to support tanks that hold more than {@link Integer#MAX_VALUE} mB, by passing the amount to
+     * {@link net.pedroksl.ae2addonlib.client.widgets.FluidTankSlot#setFluidStack(FluidStack, long)}.
+     * @param index The tank index.
+     * @param stack The tank's updated stack. Its amount is clamped to an int.
+     * @param amount The real amount of fluid in the tank.
+     */
+    default void updateFluidTankContents(int index, FluidStack stack, long amount) {
+        updateFluidTankContents(index, stack);
+    }
+
+    /**
+     * Getter for the tank slot with the given index. Screens that return their slots enable client prediction on tank
+     * interactions, and updates for those tanks are applied to the slot directly instead of going through
+     * {@link #updateFluidTankContents}.
+     * @param index The tank index.
+     * @return The tank slot, or null if it is not exposed.
+     */
+    default @Nullable FluidTankSlot getFluidTankSlot(int index) {
+        return null;
+    }
+
     /**
      * Plays sounds depending on if the fluid was inserted or extracted.
      * @param isInsert If the fluid was inserted or extracted.
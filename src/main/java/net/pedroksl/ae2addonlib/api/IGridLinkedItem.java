@@ -5,12 +5,15 @@ import java.util.function.Consumer;
 import org.jetbrains.annotations.Nullable;
 
 import net.minecraft.core.GlobalPos;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.ItemLike;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
+import net.pedroksl.ae2addonlib.core.jfr.GridLinkEvent;
+import net.pedroksl.ae2addonlib.core.metrics.LibMetrics;
 
 import appeng.api.features.IGridLinkableHandler;
 import appeng.api.ids.AEComponents;
@@ -62,6 +65,27 @@ public interface IGridLinkedItem {
      * @return The linked grid. Null if unlinked.
      */
     default @Nullable IGrid getLinkedGrid(ItemStack stack, Level level, @Nullable Consumer<Component> errorConsumer) {
+        var event = new GridLinkEvent();
+        event.begin();
+        var start = LibMetrics.LINKED_GRID.start();
+        IGrid grid = null;
+        try {
+            grid = findLinkedGrid(stack, level, errorConsumer);
+            return grid;
+        } finally {
+            LibMetrics.LINKED_GRID.stop(start);
+            event.end();
+            if (event.shouldCommit()) {
+                var id = BuiltInRegistries.ITEM.getKey(stack.getItem());
+                event.modId = id.getNamespace();
+                event.item = id.toString();
+                event.found = grid != null;
+                event.commit();
+            }
+        }
+    }
+
+    private @Nullable IGrid findLinkedGrid(ItemStack stack, Level level, @Nullable Consumer<Component> errorConsumer) {
         if (level instanceof ServerLevel serverLevel) {
             GlobalPos linkedPos = this.getLinkedPosition(stack);
             if (linkedPos == null) {
@@ -1,11 +1,14 @@
 package net.pedroksl.ae2addonlib.client;
 
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.ModContainer;
 import net.neoforged.fml.common.Mod;
+import net.neoforged.neoforge.client.event.AddClientReloadListenersEvent;
 import net.neoforged.neoforge.client.event.RegisterColorHandlersEvent;
 import net.neoforged.neoforge.client.event.RegisterMenuScreensEvent;
+import net.pedroksl.ae2addonlib.client.render.FluidRenderCache;
 import net.pedroksl.ae2addonlib.client.screens.OutputDirectionScreen;
 import net.pedroksl.ae2addonlib.client.screens.SetAmountScreen;
 import net.pedroksl.ae2addonlib.core.AE2AddonLib;
@@ -23,6 +26,7 @@ public class AE2AddonLibClient extends AE2AddonLib {
         super(modEventBus, container);
 
         modEventBus.addListener(this::onRegisterMenuScreenEvent);
+        modEventBus.addListener(this::onAddReloadListeners);
 
         modEventBus.addListener(new LibClientNetworkHandler()::registerPackets);
     }
@@ -33,6 +37,12 @@ public class AE2AddonLibClient extends AE2AddonLib {
         InitScreens.register(event, LibMenus.SET_AMOUNT.get(), SetAmountScreen::new, "/screens/set_amount.json");
     }
 
+    private void onAddReloadListeners(AddClientReloadListenersEvent event) {
+        event.addListener(
+                AE2AddonLib.makeId("fluid_render_cache"),
+                (ResourceManagerReloadListener) resourceManager -> FluidRenderCache.clear());
+    }
+
     private static void registerItemTintSources(RegisterColorHandlersEvent.ItemTintSources event) {
         event.register(ColoredItemTintSource.ID, ColoredItemTintSource.MAP_CODEC);
     }
@@ -6,6 +6,8 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.world.entity.player.Player;
 import net.neoforged.neoforge.client.network.event.RegisterClientPayloadHandlersEvent;
+import net.pedroksl.ae2addonlib.core.jfr.PacketHandleEvent;
+import net.pedroksl.ae2addonlib.core.metrics.LibMetrics;
 
 import appeng.core.network.ClientboundPacket;
 
@@ -21,7 +23,23 @@ public abstract class ClientNetworkHandler {
             RegisterClientPayloadHandlersEvent event,
             CustomPacketPayload.Type<@NotNull T> type,
             ClientNetworkHandler.ClientPacketHandler<T> handler) {
-        event.register(type, (payload, context) -> handler.handle(payload, Minecraft.getInstance(), context.player()));
+        var timer = LibMetrics.timer("packet/" + type.id());
+        event.register(type, (payload, context) -> {
+            var jfrEvent = new PacketHandleEvent();
+            jfrEvent.begin();
+            var start = timer.start();
+            try {
+                handler.handle(payload, Minecraft.getInstance(), context.player());
+            } finally {
+                timer.stop(start);
+                jfrEvent.end();
+                if (jfrEvent.shouldCommit()) {
+                    jfrEvent.modId = type.id().getNamespace();
+                    jfrEvent.packet = type.id().toString();
+                    jfrEvent.commit();
+                }
+            }
+        });
     }
 
     @FunctionalInterface
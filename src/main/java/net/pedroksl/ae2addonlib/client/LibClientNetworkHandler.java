@@ -27,7 +27,12 @@ public class LibClientNetworkHandler extends ClientNetworkHandler {
 
     public void handleFluidTanStackUpdatePacket(FluidTankStackUpdatePacket packet, Minecraft minecraft, Player player) {
         if (Minecraft.getInstance().screen instanceof IFluidTankScreen screen) {
-            screen.updateFluidTankContents(packet.index(), packet.stack());
+            var slot = screen.getFluidTankSlot(packet.index());
+            if (slot != null) {
+                slot.onServerUpdate(packet.stack(), packet.amount(), packet.sequence());
+            } else {
+                screen.updateFluidTankContents(packet.index(), packet.stack(), packet.amount());
+            }
         }
     }
 
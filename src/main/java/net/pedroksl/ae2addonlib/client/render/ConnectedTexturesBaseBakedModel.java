@@ -19,12 +19,15 @@ import net.minecraft.client.resources.model.sprite.Material;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.Vec3i;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 import net.neoforged.neoforge.client.model.DynamicBlockStateModel;
 import net.neoforged.neoforge.client.model.pipeline.QuadBakingVertexConsumer;
 import net.neoforged.neoforge.model.data.ModelProperty;
+import net.pedroksl.ae2addonlib.core.jfr.ConnectedTextureBuildEvent;
+import net.pedroksl.ae2addonlib.core.metrics.LibMetrics;
 
 import appeng.client.render.MaterialUtil;
 
@@ -170,6 +173,25 @@ public abstract class ConnectedTexturesBaseBakedModel implements DynamicBlockSta
             BlockState state,
             RandomSource random,
             List<BlockStateModelPart> parts) {
+        var event = new ConnectedTextureBuildEvent();
+        event.begin();
+        var start = LibMetrics.CONNECTED_TEXTURES.start();
+        try {
+            buildParts(level, pos, state, parts);
+        } finally {
+            LibMetrics.CONNECTED_TEXTURES.stop(start);
+            event.end();
+            if (event.shouldCommit()) {
+                var id = BuiltInRegistries.BLOCK.getKey(state.getBlock());
+                event.modId = id.getNamespace();
+                event.block = id.toString();
+                event.commit();
+            }
+        }
+    }
+
+    private void buildParts(
+            BlockAndTintGetter level, BlockPos pos, BlockState state, List<BlockStateModelPart> parts) {
         var extraData = level.getModelData(pos);
 
         var connect = new Connect();
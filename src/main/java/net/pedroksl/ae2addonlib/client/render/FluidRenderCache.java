@@ -0,0 +1,101 @@
+package net.pedroksl.ae2addonlib.client.render;
+
+import it.unimi.dsi.fastutil.Hash;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenCustomHashMap;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.render.TextureSetup;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.neoforged.neoforge.fluids.FluidStack;
+import net.pedroksl.ae2addonlib.registry.helpers.LibConfig;
+
+/**
+ * <p>Client cache of the sprite and tint used to draw a fluid in the gui.</p>
+ * Entries are keyed by fluid and data components, ignoring the amount, and the whole cache is flushed when resources
+ * are reloaded or it grows past {@link LibConfig#FLUID_RENDER_CACHE_SIZE}. Holders of an {@link Entry} can compare
+ * {@link #generation()} to know when to resolve it again.
+ */
+public final class FluidRenderCache {
+
+    private static final Hash.Strategy<FluidStack> FLUID_AND_COMPONENTS = new Hash.Strategy<>() {
+        @Override
+        public int hashCode(FluidStack stack) {
+            return stack == null ? 0 : FluidStack.hashFluidAndComponents(stack);
+        }
+
+        @Override
+        public boolean equals(FluidStack a, FluidStack b) {
+            if (a == b) return true;
+            if (a == null || b == null) return false;
+            return FluidStack.isSameFluidSameComponents(a, b);
+        }
+    };
+
+    private static final Object2ObjectOpenCustomHashMap<FluidStack, Entry> ENTRIES =
+            new Object2ObjectOpenCustomHashMap<>(FLUID_AND_COMPONENTS);
+
+    private static int generation = 0;
+
+    private FluidRenderCache() {}
+
+    /**
+     * Gets the render information of a fluid, resolving it from the fluid models on the first request.
+     * @param stack The fluid stack. Must not be empty.
+     * @return The cached render information.
+     */
+    public static Entry get(FluidStack stack) {
+        var entry = ENTRIES.get(stack);
+        if (entry == null) {
+            if (ENTRIES.size() >= LibConfig.FLUID_RENDER_CACHE_SIZE.get()) {
+                clear();
+            }
+            entry = resolve(stack);
+            ENTRIES.put(stack.copyWithAmount(1), entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Getter for the cache generation, which changes every time the cache is flushed.
+     * @return The current generation.
+     */
+    public static int generation() {
+        return generation;
+    }
+
+    /**
+     * Flushes the cache. Called when client resources are reloaded, or when the cache is full.
+     */
+    public static void clear() {
+        ENTRIES.clear();
+        generation++;
+    }
+
+    private static Entry resolve(FluidStack stack) {
+        var fluidModel = Minecraft.getInstance()
+                .getModelManager()
+                .getFluidStateModelSet()
+                .get(stack.getFluid().defaultFluidState());
+
+        var sprite = fluidModel.stillMaterial().sprite();
+
+        var tint = -1;
+        var tintSource = fluidModel.fluidTintSource();
+        if (tintSource != null) {
+            tint = tintSource.colorAsStack(stack);
+        }
+
+        var atlas = Minecraft.getInstance().getTextureManager().getTexture(sprite.atlasLocation());
+        var textureSetup = TextureSetup.singleTexture(atlas.getTextureView(), atlas.getSampler());
+
+        return new Entry(sprite, tint, textureSetup);
+    }
+
+    /**
+     * The render information of a fluid.
+     * @param sprite The still sprite of the fluid.
+     * @param tint The tint of the fluid, in RGB color space.
+     * @param textureSetup The texture setup for the atlas that holds the sprite.
+     */
+    public record Entry(TextureAtlasSprite sprite, int tint, TextureSetup textureSetup) {}
+}
@@ -0,0 +1,132 @@
+package net.pedroksl.ae2addonlib.client.render;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.joml.Matrix3x2f;
+import org.jspecify.annotations.Nullable;
+
+import net.minecraft.client.gui.GuiGraphicsExtractor;
+import net.minecraft.client.gui.navigation.ScreenRectangle;
+import net.minecraft.client.gui.render.TextureSetup;
+import net.minecraft.client.renderer.RenderPipelines;
+
+/**
+ * <p>Caches the gradient geometry of a widget between frames.</p>
+ * The geometry is only rebuilt when the key (usually the hue), the rectangle, the pose or the scissor area change.
+ * Otherwise, the render states built on the previous frame are submitted again as they are.
+ */
+public class GradientRenderCache {
+
+    /**
+     * Function responsible for building the gradient geometry of a widget.
+     */
+    @FunctionalInterface
+    public interface GeometryBuilder {
+        /**
+         * Builds the geometry by calling {@link #addRectangle} on the cache.
+         * @param cache The cache being rebuilt.
+         * @param key The key the geometry is being built for.
+         * @param x0 The left edge of the widget.
+         * @param y0 The top edge of the widget.
+         * @param x1 The right edge of the widget.
+         * @param y1 The bottom edge of the widget.
+         */
+        void build(GradientRenderCache cache, float key, int x0, int y0, int x1, int y1);
+    }
+
+    private final GeometryBuilder builder;
+    private final List<MultiGradientRectangleRenderState> states = new ArrayList<>();
+
+    private boolean valid = false;
+    private float key;
+    private int x0;
+    private int y0;
+    private int x1;
+    private int y1;
+    private Matrix3x2f pose = new Matrix3x2f();
+    private @Nullable ScreenRectangle scissorArea;
+
+    /**
+     * Constructs a cache that uses the given builder whenever the geometry needs to be rebuilt.
+     * @param builder The geometry builder.
+     */
+    public GradientRenderCache(GeometryBuilder builder) {
+        this.builder = builder;
+    }
+
+    /**
+     * Submits the cached geometry, rebuilding it first if any of its inputs changed since the last call.
+     * @param guiGraphics The gui graphics instance.
+     * @param key The key of the geometry, such as the hue.
+     * @param x0 The left edge of the widget.
+     * @param y0 The top edge of the widget.
+     * @param x1 The right edge of the widget.
+     * @param y1 The bottom edge of the widget.
+     */
+    public void submit(GuiGraphicsExtractor guiGraphics, float key, int x0, int y0, int x1, int y1) {
+        var currentPose = guiGraphics.pose();
+        var currentScissor = guiGraphics.peekScissorStack();
+
+        if (!this.valid
+                || Float.compare(this.key, key) != 0
+                || this.x0 != x0
+                || this.y0 != y0
+                || this.x1 != x1
+                || this.y1 != y1
+                || !this.pose.equals(currentPose, 0f)
+                || !Objects.equals(this.scissorArea, currentScissor)) {
+            this.key = key;
+            this.x0 = x0;
+            this.y0 = y0;
+            this.x1 = x1;
+            this.y1 = y1;
+            // States submitted on the previous frame still reference the old pose, so it is never modified in place.
+            this.pose = new Matrix3x2f(currentPose);
+            this.scissorArea = currentScissor;
+
+            this.states.clear();
+            this.builder.build(this, key, x0, y0, x1, y1);
+            this.valid = true;
+        }
+
+        for (var i = 0; i < this.states.size(); i++) {
+            guiGraphics.submitGuiElementRenderState(this.states.get(i));
+        }
+    }
+
+    /**
+     * Adds a gradient rectangle to the geometry. Should only be called by the {@link GeometryBuilder}.
+     * @param x0 The left edge of the rectangle.
+     * @param y0 The top edge of the rectangle.
+     * @param x1 The right edge of the rectangle.
+     * @param y1 The bottom edge of the rectangle.
+     * @param tlColor The color of the top-left corner.
+     * @param trColor The color of the top-right corner.
+     * @param blColor The color of the bottom-left corner.
+     * @param brColor The color of the bottom-right corner.
+     */
+    public void addRectangle(int x0, int y0, int x1, int y1, int tlColor, int trColor, int blColor, int brColor) {
+        this.states.add(new MultiGradientRectangleRenderState(
+                RenderPipelines.GUI,
+                TextureSetup.noTexture(),
+                this.pose,
+                x0,
+                y0,
+                x1,
+                y1,
+                tlColor,
+                trColor,
+                blColor,
+                brColor,
+                this.scissorArea));
+    }
+
+    /**
+     * Forces the geometry to be rebuilt on the next submission.
+     */
+    public void invalidate() {
+        this.valid = false;
+    }
+}
@@ -0,0 +1,102 @@
+package net.pedroksl.ae2addonlib.client.render;
+
+import com.mojang.blaze3d.pipeline.RenderPipeline;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+
+import org.joml.Matrix3x2fc;
+import org.jspecify.annotations.Nullable;
+
+import net.minecraft.client.gui.navigation.ScreenRectangle;
+import net.minecraft.client.gui.render.TextureSetup;
+import net.minecraft.client.renderer.state.gui.GuiElementRenderState;
+
+/**
+ * A gui render state of a rectangle with an individual color on each corner, interpolated across its surface.
+ * @param pipeline The render pipeline.
+ * @param textureSetup The texture setup.
+ * @param pose The pose used to transform the vertices.
+ * @param x0 The left edge of the rectangle.
+ * @param y0 The top edge of the rectangle.
+ * @param x1 The right edge of the rectangle.
+ * @param y1 The bottom edge of the rectangle.
+ * @param tlColor The color of the top-left corner.
+ * @param trColor The color of the top-right corner.
+ * @param blColor The color of the bottom-left corner.
+ * @param brColor The color of the bottom-right corner.
+ * @param scissorArea The scissor area in use when the state was created.
+ * @param bounds The screen bounds of the rectangle, clipped by the scissor area.
+ */
+public record MultiGradientRectangleRenderState(
+        RenderPipeline pipeline,
+        TextureSetup textureSetup,
+        Matrix3x2fc pose,
+        int x0,
+        int y0,
+        int x1,
+        int y1,
+        int tlColor,
+        int trColor,
+        int blColor,
+        int brColor,
+        @Nullable ScreenRectangle scissorArea,
+        @Nullable ScreenRectangle bounds)
+        implements GuiElementRenderState {
+
+    /**
+     * Constructs the render state, calculating its bounds from the pose and scissor area.
+     * @param pipeline The render pipeline.
+     * @param textureSetup The texture setup.
+     * @param pose The pose used to transform the vertices.
+     * @param x0 The left edge of the rectangle.
+     * @param y0 The top edge of the rectangle.
+     * @param x1 The right edge of the rectangle.
+     * @param y1 The bottom edge of the rectangle.
+     * @param tlColor The color of the top-left corner.
+     * @param trColor The color of the top-right corner.
+     * @param blColor The color of the bottom-left corner.
+     * @param brColor The color of the bottom-right corner.
+     * @param scissorArea The scissor area in use when the state was created.
+     */
+    public MultiGradientRectangleRenderState(
+            RenderPipeline pipeline,
+            TextureSetup textureSetup,
+            Matrix3x2fc pose,
+            int x0,
+            int y0,
+            int x1,
+            int y1,
+            int tlColor,
+            int trColor,
+            int blColor,
+            int brColor,
+            @Nullable ScreenRectangle scissorArea) {
+        this(
+                pipeline,
+                textureSetup,
+                pose,
+                x0,
+                y0,
+                x1,
+                y1,
+                tlColor,
+                trColor,
+                blColor,
+                brColor,
+                scissorArea,
+                getBounds(x0, y0, x1, y1, pose, scissorArea));
+    }
+
+    @Override
+    public void buildVertices(VertexConsumer vertexConsumer) {
+        vertexConsumer.addVertexWith2DPose(this.pose(), (float) x1, (float) y0).setColor(trColor);
+        vertexConsumer.addVertexWith2DPose(this.pose(), (float) x0, (float) y0).setColor(tlColor);
+        vertexConsumer.addVertexWith2DPose(this.pose(), (float) x0, (float) y1).setColor(blColor);
+        vertexConsumer.addVertexWith2DPose(this.pose(), (float) x1, (float) y1).setColor(brColor);
+    }
+
+    private static @Nullable ScreenRectangle getBounds(
+            int x0, int y0, int x1, int y1, Matrix3x2fc pose, @Nullable ScreenRectangle scissorArea) {
+        ScreenRectangle bounds = (new ScreenRectangle(x0, y0, x1 - x0, y1 - y0)).transformMaxBounds(pose);
+        return scissorArea != null ? scissorArea.intersection(bounds) : bounds;
+    }
+}
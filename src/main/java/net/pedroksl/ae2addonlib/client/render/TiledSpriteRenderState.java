@@ -0,0 +1,114 @@
+package net.pedroksl.ae2addonlib.client.render;
+
+import com.mojang.blaze3d.pipeline.RenderPipeline;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+
+import org.joml.Matrix3x2fc;
+import org.jspecify.annotations.Nullable;
+
+import net.minecraft.client.gui.navigation.ScreenRectangle;
+import net.minecraft.client.gui.render.TextureSetup;
+import net.minecraft.client.renderer.state.gui.GuiElementRenderState;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+
+/**
+ * <p>A gui render state that fills a rectangle with square tiles of a sprite, from the bottom up.</p>
+ * All tiles are emitted by a single render state, so the cost of filling a rectangle does not depend on its height.
+ * The top-most tile is cropped instead of stretched when the height is not a multiple of the tile size.
+ * @param pipeline The render pipeline.
+ * @param textureSetup The texture setup of the sprite's atlas.
+ * @param pose The pose used to transform the vertices.
+ * @param x0 The left edge of the rectangle.
+ * @param y0 The top edge of the rectangle.
+ * @param x1 The right edge of the rectangle.
+ * @param y1 The bottom edge of the rectangle.
+ * @param sprite The sprite to tile.
+ * @param color The color to tint the sprite with, in ARGB color space.
+ * @param scissorArea The scissor area in use when the state was created.
+ * @param bounds The screen bounds of the rectangle, clipped by the scissor area.
+ */
+public record TiledSpriteRenderState(
+        RenderPipeline pipeline,
+        TextureSetup textureSetup,
+        Matrix3x2fc pose,
+        int x0,
+        int y0,
+        int x1,
+        int y1,
+        TextureAtlasSprite sprite,
+        int color,
+        @Nullable ScreenRectangle scissorArea,
+        @Nullable ScreenRectangle bounds)
+        implements GuiElementRenderState {
+
+    /**
+     * Constructs the render state, calculating its bounds from the pose and scissor area.
+     * @param pipeline The render pipeline.
+     * @param textureSetup The texture setup of the sprite's atlas.
+     * @param pose The pose used to transform the vertices.
+     * @param x0 The left edge of the rectangle.
+     * @param y0 The top edge of the rectangle.
+     * @param x1 The right edge of the rectangle.
+     * @param y1 The bottom edge of the rectangle.
+     * @param sprite The sprite to tile.
+     * @param color The color to tint the sprite with, in ARGB color space.
+     * @param scissorArea The scissor area in use when the state was created.
+     */
+    public TiledSpriteRenderState(
+            RenderPipeline pipeline,
+            TextureSetup textureSetup,
+            Matrix3x2fc pose,
+            int x0,
+            int y0,
+            int x1,
+            int y1,
+            TextureAtlasSprite sprite,
+            int color,
+            @Nullable ScreenRectangle scissorArea) {
+        this(
+                pipeline,
+                textureSetup,
+                pose,
+                x0,
+                y0,
+                x1,
+                y1,
+                sprite,
+                color,
+                scissorArea,
+                getBounds(x0, y0, x1, y1, pose, scissorArea));
+    }
+
+    @Override
+    public void buildVertices(VertexConsumer vertexConsumer) {
+        var tileSize = x1 - x0;
+        if (tileSize <= 0) {
+            return;
+        }
+
+        var u0 = sprite.getU0();
+        var u1 = sprite.getU1();
+        var v0 = sprite.getV0();
+        var v1 = sprite.getV1();
+
+        var bottom = y1;
+        while (bottom > y0) {
+            var tileHeight = Math.min(tileSize, bottom - y0);
+            var top = bottom - tileHeight;
+            var tileV1 = v0 + (v1 - v0) * tileHeight / tileSize;
+
+            vertexConsumer.addVertexWith2DPose(pose, x0, top).setUv(u0, v0).setColor(color);
+            vertexConsumer.addVertexWith2DPose(pose, x0, bottom).setUv(u0, tileV1).setColor(color);
+            vertexConsumer.addVertexWith2DPose(pose, x1, bottom).setUv(u1, tileV1).setColor(color);
+            vertexConsumer.addVertexWith2DPose(pose, x1, top).setUv(u1, v0).setColor(color);
+
+            bottom = top;
+        }
+    }
+
+    private static @Nullable ScreenRectangle getBounds(
+            int x0, int y0, int x1, int y1, Matrix3x2fc pose, @Nullable ScreenRectangle scissorArea) {
+        ScreenRectangle bounds = (new ScreenRectangle(x0, y0, x1 - x0, y1 - y0)).transformMaxBounds(pose);
+        return scissorArea != null ? scissorArea.intersection(bounds) : bounds;
+    }
+}
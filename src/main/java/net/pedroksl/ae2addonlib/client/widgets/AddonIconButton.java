@@ -31,7 +31,6 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 
-import appeng.client.gui.style.Blitter;
 import appeng.client.gui.widgets.ITooltip;
 import appeng.util.Icon;
 
@@ -50,6 +49,11 @@ public abstract class AddonIconButton extends Button implements ITooltip {
 
     private boolean enableHoverOffset = true;
 
+    @Nullable
+    private Item overlayItem;
+
+    private ItemStack overlayStack = ItemStack.EMPTY;
+
     /**
      * Constructs a button with a callback function.
      * @param onPress The callback function.
@@ -97,18 +101,17 @@ public abstract class AddonIconButton extends Button implements ITooltip {
 
             if (this.halfSize) {
                 if (!disableBackground) {
-                    Blitter.icon(Icon.TOOLBAR_BUTTON_BACKGROUND)
+                    IconBlitterCache.get(Icon.TOOLBAR_BUTTON_BACKGROUND)
                             .dest(getX(), getY())
                             .blit(guiGraphics);
                 }
                 if (item != null) {
-                    guiGraphics.item(new ItemStack(item), getX(), getY());
+                    guiGraphics.item(getOverlayStack(item), getX(), getY());
                 } else if (icon != null) {
-                    Blitter blitter = icon.getBlitter();
-                    if (!this.active) {
-                        blitter.opacity(0.5f);
-                    }
-                    blitter.dest(getX(), getY()).blit(guiGraphics);
+                    IconBlitterCache.get(icon)
+                            .opacity(this.active ? 1f : 0.5f)
+                            .dest(getX(), getY())
+                            .blit(guiGraphics);
                 }
             } else {
                 if (!disableBackground) {
@@ -116,19 +119,30 @@ public abstract class AddonIconButton extends Button implements ITooltip {
                             ? Icon.TOOLBAR_BUTTON_BACKGROUND_HOVER
                             : isFocused() ? Icon.TOOLBAR_BUTTON_BACKGROUND_FOCUS : Icon.TOOLBAR_BUTTON_BACKGROUND;
 
-                    Blitter.icon(bgIcon)
+                    IconBlitterCache.get(bgIcon)
                             .dest(getX() - 1, getY() + yOffset, 18, 20)
                             .blit(guiGraphics);
                 }
                 if (item != null) {
-                    guiGraphics.item(new ItemStack(item), getX(), getY() + 1 + yOffset);
+                    guiGraphics.item(getOverlayStack(item), getX(), getY() + 1 + yOffset);
                 } else if (icon != null) {
-                    icon.getBlitter().dest(getX(), getY() + 1 + yOffset).blit(guiGraphics);
+                    IconBlitterCache.get(icon)
+                            .opacity(1f)
+                            .dest(getX(), getY() + 1 + yOffset)
+                            .blit(guiGraphics);
                 }
             }
         }
     }
 
+    private ItemStack getOverlayStack(Item item) {
+        if (this.overlayItem != item) {
+            this.overlayItem = item;
+            this.overlayStack = new ItemStack(item);
+        }
+        return this.overlayStack;
+    }
+
     /**
      * Getter for the button's icon.
      * @return The button's icon.
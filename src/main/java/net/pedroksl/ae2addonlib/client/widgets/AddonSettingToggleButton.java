@@ -34,12 +34,15 @@ import appeng.util.EnumCycler;
  */
 public class AddonSettingToggleButton<T extends Enum<T>> extends AddonIconButton {
     private static final Logger LOG = LogUtils.getLogger();
-    private static final Map<EnumPair<?>, ButtonAppearance> APPEARANCES = new HashMap<>();
+    private static final Map<Setting<?>, ButtonAppearance[]> APPEARANCES = new IdentityHashMap<>();
     private final Setting<T> buttonSetting;
     private final IHandler<AddonSettingToggleButton<T>> onPress;
     private final EnumSet<T> validValues;
     private T currentValue;
 
+    @Nullable
+    private ButtonAppearance appearance;
+
     /**
      * Wrapper for a function that handles the effect of button clicks. Receives the pressed button as well as a boolean
      * that is true if the setting should cycle backwards.
@@ -86,11 +89,12 @@ public class AddonSettingToggleButton<T extends Enum<T>> extends AddonIconButton
         this.buttonSetting = setting;
         this.currentValue = val;
 
-        var key = new EnumPair<>(setting, val);
-        if (!APPEARANCES.containsKey(key)) {
+        this.appearance = findAppearance(setting, val);
+        if (this.appearance == null) {
             registerAppearances();
+            this.appearance = findAppearance(setting, val);
 
-            if (!APPEARANCES.containsKey(key)) {
+            if (this.appearance == null) {
                 LOG.error("Tried to initialize button with invalid setting: {}", setting.getName());
                 throw new IllegalArgumentException();
             }
@@ -155,7 +159,7 @@ public class AddonSettingToggleButton<T extends Enum<T>> extends AddonIconButton
         lines.add(title.text());
         Collections.addAll(lines, tooltipLines);
 
-        APPEARANCES.put(new EnumPair<>(setting, val), new ButtonAppearance(icon, null, lines));
+        putAppearance(setting, val, new ButtonAppearance(icon, null, lines));
     }
 
     /**
@@ -173,7 +177,7 @@ public class AddonSettingToggleButton<T extends Enum<T>> extends AddonIconButton
         lines.add(title.text());
         Collections.addAll(lines, tooltipLines);
 
-        APPEARANCES.put(new EnumPair<>(setting, val), new ButtonAppearance(null, item.asItem(), lines));
+        putAppearance(setting, val, new ButtonAppearance(null, item.asItem(), lines));
     }
 
     /**
@@ -190,17 +194,25 @@ public class AddonSettingToggleButton<T extends Enum<T>> extends AddonIconButton
         registerApp(icon, setting, val, title, hint.text());
     }
 
+    private static <T extends Enum<T>> void putAppearance(Setting<T> setting, T val, ButtonAppearance appearance) {
+        var table = APPEARANCES.computeIfAbsent(
+                setting, s -> new ButtonAppearance[val.getDeclaringClass().getEnumConstants().length]);
+        table[val.ordinal()] = appearance;
+    }
+
     @Nullable
-    private AddonSettingToggleButton.ButtonAppearance getAppearance() {
-        if (this.buttonSetting != null && this.currentValue != null) {
-            return APPEARANCES.get(new EnumPair<>(this.buttonSetting, this.currentValue));
+    private static ButtonAppearance findAppearance(@Nullable Setting<?> setting, @Nullable Enum<?> val) {
+        if (setting == null || val == null) {
+            return null;
         }
-        return null;
+
+        var table = APPEARANCES.get(setting);
+        return table != null ? table[val.ordinal()] : null;
     }
 
     @Override
     protected IBlitterIcon getIcon() {
-        var app = getAppearance();
+        var app = this.appearance;
         if (app != null && app.icon != null) {
             return app.icon;
         }
@@ -209,7 +221,7 @@ public class AddonSettingToggleButton<T extends Enum<T>> extends AddonIconButton
 
     @Override
     protected Item getItemOverlay() {
-        var app = getAppearance();
+        var app = this.appearance;
         if (app != null && app.item != null) {
             return app.item;
         }
@@ -239,6 +251,7 @@ public class AddonSettingToggleButton<T extends Enum<T>> extends AddonIconButton
     public void set(T e) {
         if (this.currentValue != e) {
             this.currentValue = e;
+            this.appearance = findAppearance(this.buttonSetting, e);
         }
     }
 
@@ -258,7 +271,7 @@ public class AddonSettingToggleButton<T extends Enum<T>> extends AddonIconButton
             return Collections.emptyList();
         }
 
-        var buttonAppearance = APPEARANCES.get(new EnumPair<>(this.buttonSetting, this.currentValue));
+        var buttonAppearance = this.appearance;
         if (buttonAppearance == null) {
             return Collections.singletonList(ButtonToolTips.NoSuchMessage.text());
         }
@@ -269,7 +282,10 @@ public class AddonSettingToggleButton<T extends Enum<T>> extends AddonIconButton
     /**
      * Container class for a pair of Setting/Value. Implements hash and equals operators to be used as a map key.
      * @param <T> Class that extends enum.
+     * @deprecated Appearances are now stored in per-setting tables and no longer use this class. Kept for inheritors
+     * that still reference it.
      */
+    @Deprecated
     protected static final class EnumPair<T extends Enum<T>> {
 
         final Setting<T> setting;
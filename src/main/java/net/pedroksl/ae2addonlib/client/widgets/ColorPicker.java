@@ -6,6 +6,7 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphicsExtractor;
 import net.minecraft.client.gui.components.events.GuiEventListener;
 import net.minecraft.client.renderer.Rect2i;
+import net.pedroksl.ae2addonlib.util.ColorMath;
 import net.pedroksl.ae2addonlib.util.Colors;
 
 import appeng.client.Point;
@@ -52,20 +53,19 @@ public class ColorPicker extends CompositeWidgetContainer {
     public ColorPicker(BiConsumer<String, ICompositeWidget> addWidget, int color, ScreenStyle style, String id) {
         super(addWidget, style, id);
 
-        Colors.HSV hsv = Colors.ofRgb(color).hsv();
         this.color = color;
-        this.hue = hsv.hue();
-        this.saturation = hsv.saturation();
-        this.value = hsv.value();
+        this.hue = ColorMath.hue(color);
+        this.saturation = ColorMath.saturation(color);
+        this.value = ColorMath.value(color);
 
         Point hueSliderPosition = new Point(0, 0);
-        this.hueSlider = new HueSlider(hsv.hue(), hue -> this.setHue(hue.floatValue()));
+        this.hueSlider = new HueSlider(this.hue, hue -> this.setHue(hue.floatValue()));
         this.hueSlider.setSize(this.width, HUE_SLIDER_HEIGHT);
         this.add(hueSliderPosition, hueSlider);
 
         Point saturationValuePickerPosition = new Point(0, HUE_SLIDER_HEIGHT + WIDGET_SPACING);
         this.saturationValuePicker =
-                new SaturationValuePicker(hsv.hue(), hsv.saturation(), hsv.value(), this::setSaturationAndValue);
+                new SaturationValuePicker(this.hue, this.saturation, this.value, this::setSaturationAndValue);
         this.saturationValuePicker.setSize(
                 this.width,
                 this.height - HUE_SLIDER_HEIGHT - PREVIEW_ROW_HEIGHT - HEX_ROW_HEIGHT - 3 * WIDGET_SPACING - 1);
@@ -98,7 +98,7 @@ public class ColorPicker extends CompositeWidgetContainer {
         this.hue = hue / 360f;
 
         if (this.updateTrigger == UpdateTrigger.SLIDERS) {
-            this.color = Colors.ofHsv(this.hue, this.saturation, this.value).argb();
+            this.color = ColorMath.hsvToArgb(this.hue, this.saturation, this.value);
             this.hexInput.setColor(this.color);
             this.updateTrigger = null;
         } else {
@@ -114,7 +114,7 @@ public class ColorPicker extends CompositeWidgetContainer {
         this.value = value;
 
         if (this.updateTrigger == UpdateTrigger.SLIDERS) {
-            this.color = Colors.ofHsv(this.hue, this.saturation, this.value).argb();
+            this.color = ColorMath.hsvToArgb(this.hue, this.saturation, this.value);
             this.hexInput.setColor(this.color);
             this.updateTrigger = null;
         } else {
@@ -124,10 +124,9 @@ public class ColorPicker extends CompositeWidgetContainer {
 
     private void setColor(int value) {
         this.updateTrigger = UpdateTrigger.HEX_CODE;
-        Colors.HSV hsv = Colors.ofRgb(value).hsv();
-        setHue(hsv.hue() * 360f);
-        setSaturationAndValue(hsv.saturation(), hsv.value());
-        this.color = Colors.ofHsv(this.hue, this.saturation, this.value).argb();
+        setHue(ColorMath.hue(value) * 360f);
+        setSaturationAndValue(ColorMath.saturation(value), ColorMath.value(value));
+        this.color = ColorMath.hsvToArgb(this.hue, this.saturation, this.value);
         this.updateTrigger = null;
     }
 
@@ -1,11 +1,14 @@
 package net.pedroksl.ae2addonlib.client.widgets;
 
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
+import org.jspecify.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
 import net.minecraft.client.gui.GuiGraphicsExtractor;
 import net.minecraft.client.gui.components.AbstractWidget;
 import net.minecraft.client.gui.components.events.GuiEventListener;
@@ -19,9 +22,11 @@ import appeng.client.gui.style.WidgetStyle;
 import appeng.client.gui.widgets.IResizableWidget;
 
 /**
- * A widget container that can hold a list of both {@link ICompositeWidget} and {@link AbstractWidget}.
+ * <p>A widget container that can hold a list of both {@link ICompositeWidget} and {@link AbstractWidget}.</p>
  * It works much like a {@link appeng.client.gui.WidgetContainer}, and will take control of its children, making sure they
  * receive requested event as well as keep them on screen when the screen is repopulated in case of a window resize.
+ * <p>Containers with many children can be constructed with a spatial index, so mouse events are only dispatched to the
+ * widgets under the cursor instead of walking every child.</p>
  */
 public class CompositeWidgetContainer implements ICompositeWidget {
 
@@ -49,8 +54,17 @@ public class CompositeWidgetContainer implements ICompositeWidget {
     private boolean wantsAllMouseDown = false;
     private boolean wantsAllMouseWheel = false;
 
-    private final Map<Point, ICompositeWidget> widgets = new LinkedHashMap<>();
-    private final Map<Point, AbstractWidget> abstractWidgets = new LinkedHashMap<>();
+    private final List<Point> widgetPositions = new ArrayList<>();
+    private final List<ICompositeWidget> widgets = new ArrayList<>();
+    private final List<Point> abstractWidgetPositions = new ArrayList<>();
+    private final List<AbstractWidget> abstractWidgets = new ArrayList<>();
+
+    private @Nullable Rect2i bounds;
+
+    private final @Nullable WidgetSpatialIndex spatialIndex;
+    private final IntArrayList hits = new IntArrayList();
+    private boolean spatialIndexDirty = true;
+    private int dragTarget = -1;
 
     /**
      * Container constructor
@@ -59,7 +73,20 @@ public class CompositeWidgetContainer implements ICompositeWidget {
      * @param id The id of the widget, as declared in the style sheet.
      */
     public CompositeWidgetContainer(BiConsumer<String, ICompositeWidget> addWidget, ScreenStyle style, String id) {
+        this(addWidget, style, id, 0);
+    }
+
+    /**
+     * Container constructor with an optional spatial index for mouse event dispatch.
+     * @param addWidget The method to be called when adding the widgets. This will generally be {@link appeng.client.gui.AEBaseScreen#addWidget(GuiEventListener)}.
+     * @param style The screen style.
+     * @param id The id of the widget, as declared in the style sheet.
+     * @param indexCellSize The size, in pixels, of the cells of the spatial index. Zero disables the index.
+     */
+    public CompositeWidgetContainer(
+            BiConsumer<String, ICompositeWidget> addWidget, ScreenStyle style, String id, int indexCellSize) {
         this.style = style.getWidget(id);
+        this.spatialIndex = indexCellSize > 0 ? new WidgetSpatialIndex(indexCellSize) : null;
         setSize(this.style.getWidth(), this.style.getHeight());
 
         addWidget.accept(id, this);
@@ -71,7 +98,9 @@ public class CompositeWidgetContainer implements ICompositeWidget {
      * @param widget The widget to be added to the container.
      */
     public void add(Point pos, ICompositeWidget widget) {
-        this.widgets.put(pos, widget);
+        this.widgetPositions.add(pos);
+        this.widgets.add(widget);
+        this.spatialIndexDirty = true;
 
         wantsAllMouseUp = wantsAllMouseUp | widget.wantsAllMouseUpEvents();
         wantsAllMouseDown = wantsAllMouseDown | widget.wantsAllMouseDownEvents();
@@ -84,7 +113,17 @@ public class CompositeWidgetContainer implements ICompositeWidget {
      * @param widget The widget to be added to the container.
      */
     public void add(Point pos, AbstractWidget widget) {
-        this.abstractWidgets.put(pos, widget);
+        this.abstractWidgetPositions.add(pos);
+        this.abstractWidgets.add(widget);
+    }
+
+    /**
+     * Marks the spatial index as outdated, so it is rebuilt before the next mouse event. The index is already rebuilt
+     * whenever the screen is repopulated, so this is only needed if children are moved, resized or change which mouse
+     * events they capture afterward.
+     */
+    public void invalidateSpatialIndex() {
+        this.spatialIndexDirty = true;
     }
 
     @Override
@@ -100,16 +139,25 @@ public class CompositeWidgetContainer implements ICompositeWidget {
 
     @Override
     public Rect2i getBounds() {
-        return new Rect2i(this.position.getX(), this.position.getY(), this.width, this.height);
+        var bounds = this.bounds;
+        if (bounds == null
+                || bounds.getX() != this.position.getX()
+                || bounds.getY() != this.position.getY()
+                || bounds.getWidth() != this.width
+                || bounds.getHeight() != this.height) {
+            bounds = new Rect2i(this.position.getX(), this.position.getY(), this.width, this.height);
+            this.bounds = bounds;
+        }
+        return bounds;
     }
 
     @Override
     public void populateScreen(Consumer<AbstractWidget> addWidget, Rect2i bounds, AEBaseScreen<?> screen) {
         Rect2i relativeBounds = new Rect2i(0, 0, bounds.getWidth(), bounds.getHeight());
 
-        for (var entry : abstractWidgets.entrySet()) {
-            var pos = entry.getKey();
-            var widget = entry.getValue();
+        for (var i = 0; i < abstractWidgets.size(); i++) {
+            var pos = abstractWidgetPositions.get(i);
+            var widget = abstractWidgets.get(i);
             if (widget.isFocused()) {
                 widget.setFocused(false); // Minecraft already cleared focus on the screen
             }
@@ -129,19 +177,30 @@ public class CompositeWidgetContainer implements ICompositeWidget {
 
         relativeBounds = new Rect2i(0, 0, bounds.getWidth(), bounds.getHeight());
 
-        for (var entry : widgets.entrySet()) {
-            var pos = entry.getKey();
-            var widget = entry.getValue();
+        for (var i = 0; i < widgets.size(); i++) {
+            var pos = widgetPositions.get(i);
+            var widget = widgets.get(i);
 
             relativeBounds.setPosition(pos.getX(), pos.getY());
             widget.setPosition(this.style.resolve(relativeBounds));
             widget.populateScreen(addWidget, bounds, screen);
         }
+
+        this.spatialIndexDirty = true;
+        this.dragTarget = -1;
+    }
+
+    private @Nullable WidgetSpatialIndex spatialIndex() {
+        if (this.spatialIndex != null && this.spatialIndexDirty) {
+            this.spatialIndex.rebuild(this.widgets);
+            this.spatialIndexDirty = false;
+        }
+        return this.spatialIndex;
     }
 
     @Override
     public void tick() {
-        for (var widget : widgets.values()) {
+        for (var widget : widgets) {
             if (widget.isVisible()) {
                 widget.tick();
             }
@@ -150,7 +209,7 @@ public class CompositeWidgetContainer implements ICompositeWidget {
 
     @Override
     public void updateBeforeRender() {
-        for (var widget : widgets.values()) {
+        for (var widget : widgets) {
             if (widget.isVisible()) {
                 widget.updateBeforeRender();
             }
@@ -159,7 +218,7 @@ public class CompositeWidgetContainer implements ICompositeWidget {
 
     @Override
     public void drawBackgroundLayer(GuiGraphicsExtractor guiGraphics, Rect2i bounds, Point mouse) {
-        for (var widget : widgets.values()) {
+        for (var widget : widgets) {
             if (widget.isVisible()) {
                 widget.drawBackgroundLayer(guiGraphics, bounds, mouse);
             }
@@ -168,7 +227,7 @@ public class CompositeWidgetContainer implements ICompositeWidget {
 
     @Override
     public void drawForegroundLayer(GuiGraphicsExtractor poseStack, Rect2i bounds, Point mouse) {
-        for (var widget : widgets.values()) {
+        for (var widget : widgets) {
             if (widget.isVisible()) {
                 widget.drawForegroundLayer(poseStack, bounds, mouse);
             }
@@ -177,7 +236,21 @@ public class CompositeWidgetContainer implements ICompositeWidget {
 
     @Override
     public boolean onMouseDown(Point mousePos, int btn) {
-        for (var widget : widgets.values()) {
+        var index = spatialIndex();
+        if (index != null) {
+            this.dragTarget = -1;
+            index.collectMouseDown(mousePos.getX(), mousePos.getY(), this.hits);
+            for (var i = 0; i < this.hits.size(); i++) {
+                var widget = this.widgets.get(this.hits.getInt(i));
+                if (widget.isVisible() && widget.onMouseDown(mousePos, btn)) {
+                    this.dragTarget = this.hits.getInt(i);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        for (var widget : widgets) {
             if (widget.isVisible()
                     && (widget.wantsAllMouseDownEvents() || mousePos.isIn(widget.getBounds()))
                     && widget.onMouseDown(mousePos, btn)) {
@@ -190,7 +263,20 @@ public class CompositeWidgetContainer implements ICompositeWidget {
 
     @Override
     public boolean onMouseUp(Point mousePos, int btn) {
-        for (var widget : widgets.values()) {
+        var index = spatialIndex();
+        if (index != null) {
+            this.dragTarget = -1;
+            index.collectMouseUp(mousePos.getX(), mousePos.getY(), this.hits);
+            for (var i = 0; i < this.hits.size(); i++) {
+                var widget = this.widgets.get(this.hits.getInt(i));
+                if (widget.isVisible() && widget.onMouseUp(mousePos, btn)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        for (var widget : widgets) {
             if (widget.isVisible()
                     && (widget.wantsAllMouseUpEvents() || mousePos.isIn(widget.getBounds()))
                     && widget.onMouseUp(mousePos, btn)) {
@@ -203,7 +289,16 @@ public class CompositeWidgetContainer implements ICompositeWidget {
 
     @Override
     public boolean onMouseDrag(Point mousePos, int btn) {
-        for (var widget : widgets.values()) {
+        if (spatialIndex() != null) {
+            // Only the widget that accepted the mouse down can be dragging
+            if (this.dragTarget < 0 || this.dragTarget >= this.widgets.size()) {
+                return false;
+            }
+            var widget = this.widgets.get(this.dragTarget);
+            return widget.isVisible() && widget.onMouseDrag(mousePos, btn);
+        }
+
+        for (var widget : widgets) {
             if (widget.isVisible() && widget.onMouseDrag(mousePos, btn)) {
                 return true;
             }
@@ -214,15 +309,35 @@ public class CompositeWidgetContainer implements ICompositeWidget {
 
     @Override
     public boolean onMouseWheel(Point mousePos, double wheelDelta) {
+        var index = spatialIndex();
+        if (index != null) {
+            index.collectUnder(mousePos.getX(), mousePos.getY(), this.hits);
+            for (var i = 0; i < this.hits.size(); i++) {
+                var widget = this.widgets.get(this.hits.getInt(i));
+                if (widget.isVisible() && widget.onMouseWheel(mousePos, wheelDelta)) {
+                    return true;
+                }
+            }
+
+            var capturing = index.wantsAllMouseWheel();
+            for (var i = 0; i < capturing.size(); i++) {
+                var widget = this.widgets.get(capturing.getInt(i));
+                if (widget.isVisible() && widget.onMouseWheel(mousePos, wheelDelta)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         // First pass: dispatch wheel event to widgets the mouse is over
-        for (var widget : widgets.values()) {
+        for (var widget : widgets) {
             if (widget.isVisible() && mousePos.isIn(widget.getBounds()) && widget.onMouseWheel(mousePos, wheelDelta)) {
                 return true;
             }
         }
 
         // Second pass: send the event to capturing widgets
-        for (var widget : widgets.values()) {
+        for (var widget : widgets) {
             if (widget.isVisible() && widget.wantsAllMouseWheelEvents() && widget.onMouseWheel(mousePos, wheelDelta)) {
                 return true;
             }
@@ -250,7 +365,7 @@ public class CompositeWidgetContainer implements ICompositeWidget {
     public void addExclusionZones(List<Rect2i> exclusionZones, Rect2i bounds) {
         ICompositeWidget.super.addExclusionZones(exclusionZones, bounds);
 
-        for (var widget : widgets.values()) {
+        for (var widget : widgets) {
             if (widget.isVisible()) {
                 widget.addExclusionZones(exclusionZones, bounds);
             }
@@ -1,45 +1,70 @@
 package net.pedroksl.ae2addonlib.client.widgets;
 
-import org.apache.commons.lang3.text.WordUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix3x2f;
 import org.lwjgl.glfw.GLFW;
 
 import net.minecraft.ChatFormatting;
-import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphicsExtractor;
 import net.minecraft.client.gui.components.AbstractWidget;
 import net.minecraft.client.gui.components.Tooltip;
 import net.minecraft.client.gui.narration.NarrationElementOutput;
 import net.minecraft.client.gui.screens.inventory.AbstractContainerScreen;
 import net.minecraft.client.input.MouseButtonEvent;
-import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.renderer.RenderPipelines;
 import net.minecraft.network.chat.Component;
-import net.neoforged.fml.ModList;
+import net.minecraft.world.item.BucketItem;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.material.Fluids;
 import net.neoforged.neoforge.client.network.ClientPacketDistributor;
 import net.neoforged.neoforge.fluids.FluidStack;
+import net.neoforged.neoforge.fluids.FluidType;
 import net.neoforged.neoforge.transfer.fluid.FluidUtil;
+import net.pedroksl.ae2addonlib.api.IFluidTankScreen;
+import net.pedroksl.ae2addonlib.client.render.FluidRenderCache;
+import net.pedroksl.ae2addonlib.client.render.TiledSpriteRenderState;
 import net.pedroksl.ae2addonlib.core.network.serverPacket.FluidTankItemUsePacket;
 import net.pedroksl.ae2addonlib.datagen.LibText;
+import net.pedroksl.ae2addonlib.registry.helpers.LibConfig;
+import net.pedroksl.ae2addonlib.util.ColorMath;
+import net.pedroksl.ae2addonlib.util.ModDisplayNames;
 
+import appeng.api.stacks.AEFluidKey;
 import appeng.api.stacks.AmountFormat;
 import appeng.api.stacks.GenericStack;
 import appeng.client.gui.AEBaseScreen;
-import appeng.client.gui.style.Blitter;
 import appeng.core.localization.Tooltips;
 
 /**
  * A fluid tank slot. This slot must be constructed in the screen class, which must implement the {@link net.pedroksl.ae2addonlib.api.IFluidTankScreen} interface.
  * That screen needs to be linked to a menu that implements the {@link net.neoforged.neoforge.fluids.capability.IFluidHandler} interface.
  * The two interfaces provide functionality to handle item use and playing sounds.
+ * If the screen exposes the slot through {@link IFluidTankScreen#getFluidTankSlot(int)}, interactions are predicted
+ * on the client and reconciled with the server's answer.
  */
 public class FluidTankSlot extends AbstractWidget {
 
+    private static int lastSequence = 0;
+
     private final AbstractContainerScreen<?> screen;
-    private TextureAtlasSprite fluidTexture;
-    private int fluidTint = -1;
+
+    @Nullable
+    private FluidRenderCache.Entry renderEntry;
+
+    private int renderGeneration;
     private FluidStack content = FluidStack.EMPTY;
+    private long amount = 0;
     private final int maxLevel;
     private boolean disableRender = false;
+    private boolean tooltipDirty = false;
+
+    private int pendingSequence = 0;
+    private long pendingSince;
+    // Latest state reported by the server, which may be older than a pending prediction
+    private FluidStack serverContent = FluidStack.EMPTY;
+    private long serverAmount = 0;
+
     /**
      * The tank's index.
      */
@@ -73,12 +98,82 @@ public class FluidTankSlot extends AbstractWidget {
                     var actualButton = screen instanceof AEBaseScreen<?> baseScreen
                             ? (baseScreen.isHandlingRightClick() ? 1 : 0)
                             : event.button();
-                    ClientPacketDistributor.sendToServer(new FluidTankItemUsePacket(this.index, actualButton));
+                    var bulk = event.hasShiftDown();
+                    var sequence = predictItemUse(stack, fluidStack, actualButton, bulk);
+                    ClientPacketDistributor.sendToServer(
+                            new FluidTankItemUsePacket(this.index, actualButton, bulk, sequence));
                 }
             }
         }
     }
 
+    /**
+     * Applies the expected result of an item use right away, mirroring the logic of
+     * {@link net.pedroksl.ae2addonlib.api.IFluidTankHandler#onItemUse(int, int, boolean)}. Container capacities are
+     * not known on the client, so the prediction assumes a bucket per container and is corrected by the server. The
+     * sound is played right away, and the server skips its own audio packet for predicted interactions.
+     * @return The sequence of the prediction, or 0 if nothing was predicted.
+     */
+    private int predictItemUse(ItemStack carried, FluidStack contained, int button, boolean bulk) {
+        if (!LibConfig.PREDICT_TANK_INTERACTIONS.get()) return 0;
+
+        // Predictions can only be reconciled if the screen routes server updates to this slot
+        if (!(this.screen instanceof IFluidTankScreen tankScreen) || tankScreen.getFluidTankSlot(this.index) != this) {
+            return 0;
+        }
+
+        long containers = bulk ? carried.getCount() : 1;
+        long delta;
+        FluidStack fluid;
+        boolean isBucket = carried.getItem() instanceof BucketItem;
+        if ((!isBucket && button == GLFW.GLFW_MOUSE_BUTTON_LEFT)
+                || (isBucket && ((BucketItem) carried.getItem()).content == Fluids.EMPTY)) {
+            fluid = this.content;
+            delta = -Math.min(this.amount, containers * FluidType.BUCKET_VOLUME);
+        } else {
+            fluid = this.content.isEmpty() ? contained : this.content;
+            var space = (long) this.maxLevel * FluidType.BUCKET_VOLUME - this.amount;
+            delta = Math.min(containers * contained.getAmount(), space);
+        }
+
+        if (delta == 0 || fluid.isEmpty()) return 0;
+
+        if (this.pendingSequence == 0) {
+            this.serverContent = this.content;
+            this.serverAmount = this.amount;
+        }
+
+        setFluidStack(fluid, this.amount + delta);
+        IFluidTankScreen.playDownSound(delta > 0);
+
+        if (++lastSequence == 0) {
+            lastSequence = 1;
+        }
+        this.pendingSequence = lastSequence;
+        this.pendingSince = System.nanoTime();
+        return this.pendingSequence;
+    }
+
+    /**
+     * Applies an authoritative update from the server. While a prediction is pending, only the update answering the
+     * latest prediction is displayed. Every update is still stored as the latest server state, which is what a timed
+     * out prediction rolls back to.
+     * @param fluidStack The tank's fluid stack.
+     * @param amount The amount of fluid in the tank.
+     * @param sequence The sequence of the prediction answered by this update, or 0 for regular updates.
+     */
+    public void onServerUpdate(FluidStack fluidStack, long amount, int sequence) {
+        this.serverContent = fluidStack;
+        this.serverAmount = amount;
+
+        if (this.pendingSequence != 0) {
+            if (sequence == 0 || sequence - this.pendingSequence < 0) return;
+            this.pendingSequence = 0;
+        }
+
+        setFluidStack(fluidStack, amount);
+    }
+
     public boolean isValidClickButton(int button) {
         return button == GLFW.GLFW_MOUSE_BUTTON_LEFT || button == GLFW.GLFW_MOUSE_BUTTON_RIGHT;
     }
@@ -86,19 +181,47 @@ public class FluidTankSlot extends AbstractWidget {
     @Override
     protected void extractWidgetRenderState(
             GuiGraphicsExtractor guiGraphics, int mouseX, int mouseY, float partialTicks) {
-        if (content == null || fluidTexture == null || this.disableRender) return;
-
-        int fluidHeight = (int) (content.getAmount() / 1000f / maxLevel * this.height);
-        var currentY = this.getY() + this.height;
-        while (fluidHeight > 0) {
-            int currentHeight = Math.min(this.width, fluidHeight);
-            currentY -= currentHeight;
-            Blitter.sprite(this.fluidTexture)
-                    .dest(this.getX(), currentY, this.width, currentHeight)
-                    .colorRgb(this.fluidTint)
-                    .blit(guiGraphics);
-            fluidHeight -= currentHeight;
+        if (this.pendingSequence != 0
+                && System.nanoTime() - this.pendingSince > LibConfig.PREDICTION_TIMEOUT.get() * 1_000_000L) {
+            // The server never answered the prediction, go back to the latest state it reported
+            this.pendingSequence = 0;
+            setFluidStack(this.serverContent, this.serverAmount);
         }
+
+        // The tooltip is only needed while hovered, and is refreshed right after this method
+        if (this.tooltipDirty && this.isHovered()) {
+            updateTooltip();
+            this.tooltipDirty = false;
+        }
+
+        if (content == null || content.isEmpty() || this.disableRender) return;
+
+        int fluidHeight = (int) Math.min(this.height, this.amount / 1000d / maxLevel * this.height);
+        if (fluidHeight <= 0) return;
+
+        var entry = getRenderEntry();
+        var bottom = this.getY() + this.height;
+        guiGraphics.submitGuiElementRenderState(new TiledSpriteRenderState(
+                RenderPipelines.GUI_TEXTURED,
+                entry.textureSetup(),
+                new Matrix3x2f(guiGraphics.pose()),
+                this.getX(),
+                bottom - fluidHeight,
+                this.getX() + this.width,
+                bottom,
+                entry.sprite(),
+                ColorMath.withAlpha(entry.tint(), 255),
+                guiGraphics.peekScissorStack()));
+    }
+
+    private FluidRenderCache.Entry getRenderEntry() {
+        var entry = this.renderEntry;
+        if (entry == null || this.renderGeneration != FluidRenderCache.generation()) {
+            entry = FluidRenderCache.get(this.content);
+            this.renderEntry = entry;
+            this.renderGeneration = FluidRenderCache.generation();
+        }
+        return entry;
     }
 
     @Override
@@ -109,36 +232,39 @@ public class FluidTankSlot extends AbstractWidget {
      * @param fluidStack The new fluid stack.
      */
     public void setFluidStack(FluidStack fluidStack) {
-        if (fluidStack.isEmpty()) {
+        setFluidStack(fluidStack, fluidStack.getAmount());
+    }
+
+    /**
+     * Updates the displayed {@link FluidStack}, using an amount that may not fit in the stack.
+     * @param fluidStack The new fluid stack. Only its fluid and components are used.
+     * @param amount The amount of fluid in the tank.
+     */
+    public void setFluidStack(FluidStack fluidStack, long amount) {
+        if (fluidStack.isEmpty() || amount <= 0) {
             this.content = FluidStack.EMPTY;
+            this.amount = 0;
             this.disableRender = true;
-            updateTooltip(fluidStack);
+            this.tooltipDirty = true;
             return;
         }
 
-        this.disableRender = false;
-        boolean updateTexture = this.content.isEmpty() || fluidStack.getFluid() != this.content.getFluid();
-        this.content = fluidStack;
-
-        updateTooltip(fluidStack);
-
-        if (updateTexture && !this.content.isEmpty()) {
-            var fluidModel = Minecraft.getInstance()
-                    .getModelManager()
-                    .getFluidStateModelSet()
-                    .get(this.content.getFluid().defaultFluidState());
-
-            this.fluidTexture = fluidModel.stillMaterial().sprite();
+        var sameFluid = FluidStack.isSameFluidSameComponents(fluidStack, this.content);
+        if (sameFluid && this.amount == amount) {
+            return;
+        }
 
-            this.fluidTint = -1;
-            var tintSource = fluidModel.fluidTintSource();
-            if (tintSource != null) {
-                this.fluidTint = tintSource.colorAsStack(fluidStack);
-            }
+        this.disableRender = false;
+        if (!sameFluid) {
+            this.renderEntry = null;
         }
+        this.content = fluidStack;
+        this.amount = amount;
+        this.tooltipDirty = true;
     }
 
-    private void updateTooltip(FluidStack stack) {
+    private void updateTooltip() {
+        var stack = this.content;
         if (stack.isEmpty()) {
             setTooltip(Tooltip.create(Tooltips.of(
                     LibText.TankEmpty.text(),
@@ -147,8 +273,9 @@ public class FluidTankSlot extends AbstractWidget {
             return;
         }
 
-        var genericStack = GenericStack.fromFluidStack(content);
-        if (genericStack != null) {
+        var key = AEFluidKey.of(stack);
+        if (key != null) {
+            var genericStack = new GenericStack(key, this.amount);
             setTooltip(Tooltip.create(Tooltips.of(
                     stack.getHoverName(),
                     Component.literal("\n"),
@@ -157,25 +284,8 @@ public class FluidTankSlot extends AbstractWidget {
                                     this.maxLevel)
                             .withStyle(Tooltips.NUMBER_TEXT),
                     Component.literal("\n"),
-                    Component.literal(
-                                    getModDisplayNameFromId(genericStack.what().getModId()))
+                    Component.literal(ModDisplayNames.get(genericStack.what().getModId()))
                             .withStyle(ChatFormatting.BLUE, ChatFormatting.ITALIC))));
         }
     }
-
-    @SuppressWarnings("deprecation")
-    private static String getModDisplayNameFromId(String modId) {
-        var container = ModList.get().getModContainerById(modId);
-
-        if (modId.equals("c")) {
-            return "Common";
-        } else if ((container = ModList.get().getModContainerById(modId)).isPresent()) {
-            return container.get().getModInfo().getDisplayName();
-        } else {
-            container = ModList.get().getModContainerById(modId.replace('_', '-'));
-            return container.isPresent()
-                    ? container.get().getModInfo().getDisplayName()
-                    : WordUtils.capitalizeFully(modId.replace('_', ' '));
-        }
-    }
 }
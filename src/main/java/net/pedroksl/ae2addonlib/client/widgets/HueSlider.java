@@ -1,10 +1,10 @@
 package net.pedroksl.ae2addonlib.client.widgets;
 
-import java.awt.*;
 import java.util.function.Consumer;
 
 import net.minecraft.client.gui.GuiGraphicsExtractor;
-import net.pedroksl.ae2addonlib.util.Colors;
+import net.pedroksl.ae2addonlib.client.render.GradientRenderCache;
+import net.pedroksl.ae2addonlib.util.ColorMath;
 
 import appeng.client.Point;
 
@@ -15,6 +15,11 @@ import appeng.client.Point;
  */
 public class HueSlider extends AddonSlider {
 
+    private static final int HANDLE_COLOR = 0xFFFFFFFF;
+    private static final int HUE_SEGMENTS = 6;
+
+    private final GradientRenderCache gradientCache = new GradientRenderCache(HueSlider::buildGradient);
+
     /**
      * Constructs a default hue slider with a consumer function to be called when applying values.
      * @param setter The setter to be called when applying values.
@@ -41,22 +46,31 @@ public class HueSlider extends AddonSlider {
 
         var lineColor = 4276052 | (255 << 24);
         guiGraphics.fill(minX - 1, minY - 1, minX + w + 1, minY + h + 1, lineColor);
-        for (var i = 0; i < w; i++) {
-            var hue = (float) i / w;
-            guiGraphics.fill(
-                    minX + i,
-                    minY,
-                    minX + i + 1,
-                    minY + h,
-                    Colors.ofHsv(hue, 1f, 1f).argb());
-        }
+        this.gradientCache.submit(guiGraphics, 0f, minX, minY, minX + w, minY + h);
 
         var handleX = minX + (int) (this.value * (double) (this.width - 1));
         var handleY = minY - 1;
         var handleMaxY = handleY + h + 1;
-        guiGraphics.horizontalLine(handleX - 1, handleX + 1, handleY, Color.WHITE.getRGB());
-        guiGraphics.horizontalLine(handleX - 1, handleX + 1, handleMaxY, Color.WHITE.getRGB());
-        guiGraphics.verticalLine(handleX - 1, handleY, handleMaxY, Color.WHITE.getRGB());
-        guiGraphics.verticalLine(handleX + 1, handleY, handleMaxY, Color.WHITE.getRGB());
+        guiGraphics.horizontalLine(handleX - 1, handleX + 1, handleY, HANDLE_COLOR);
+        guiGraphics.horizontalLine(handleX - 1, handleX + 1, handleMaxY, HANDLE_COLOR);
+        guiGraphics.verticalLine(handleX - 1, handleY, handleMaxY, HANDLE_COLOR);
+        guiGraphics.verticalLine(handleX + 1, handleY, handleMaxY, HANDLE_COLOR);
+    }
+
+    /**
+     * At full saturation and value, each channel changes linearly between the primary and secondary hues, so the
+     * spectrum is drawn exactly with one horizontal gradient per sixth of the slider.
+     */
+    private static void buildGradient(GradientRenderCache cache, float key, int x0, int y0, int x1, int y1) {
+        var w = x1 - x0;
+        var left = x0;
+        var leftColor = ColorMath.hsvToArgb(0f, 1f, 1f);
+        for (var i = 1; i <= HUE_SEGMENTS; i++) {
+            var right = x0 + w * i / HUE_SEGMENTS;
+            var rightColor = ColorMath.hsvToArgb((float) i / HUE_SEGMENTS, 1f, 1f);
+            cache.addRectangle(left, y0, right, y1, leftColor, rightColor, leftColor, rightColor);
+            left = right;
+            leftColor = rightColor;
+        }
     }
 }
@@ -30,6 +30,7 @@ public interface IBlitterIcon {
 
     /**
      * Gets the texture blitter. The default implementation should be enough for most cases.
+     * This creates a new blitter on every call, so render code should prefer {@link IconBlitterCache#get(IBlitterIcon)}.
      * @return The texture's {@link Blitter}.
      */
     default Blitter getBlitter() {
@@ -0,0 +1,43 @@
+package net.pedroksl.ae2addonlib.client.widgets;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import appeng.client.gui.style.Blitter;
+import appeng.util.Icon;
+
+/**
+ * <p>Keeps one {@link Blitter} per icon, so icons can be drawn every frame without building a new blitter each time.</p>
+ * The returned blitters are shared, so every draw must set its own destination and opacity before blitting, and the
+ * blitters must only be used from the render thread. Only enum icons are cached, since they live for the whole
+ * game. Other addon icons may be created per screen or per call, so they get a new blitter every time instead of
+ * filling the cache.
+ */
+public final class IconBlitterCache {
+
+    private static final Map<IBlitterIcon, Blitter> ICONS = new IdentityHashMap<>();
+    private static final Map<Icon, Blitter> AE2_ICONS = new IdentityHashMap<>();
+
+    private IconBlitterCache() {}
+
+    /**
+     * Gets the blitter of an addon icon, shared if the icon is an enum constant.
+     * @param icon The icon.
+     * @return The icon's {@link Blitter}.
+     */
+    public static Blitter get(IBlitterIcon icon) {
+        if (!(icon instanceof Enum<?>)) {
+            return icon.getBlitter();
+        }
+        return ICONS.computeIfAbsent(icon, IBlitterIcon::getBlitter);
+    }
+
+    /**
+     * Gets the shared blitter of an AE2 icon.
+     * @param icon The icon.
+     * @return The icon's shared {@link Blitter}.
+     */
+    public static Blitter get(Icon icon) {
+        return AE2_ICONS.computeIfAbsent(icon, Blitter::icon);
+    }
+}
@@ -18,24 +18,17 @@ public enum LibIcons implements IBlitterIcon {
      */
     TOOLBAR_BUTTON_BACKGROUND(176, 128, 18, 20);
 
-    private final int x;
-    private final int y;
-    private final int width;
-    private final int height;
+    private final Rect2i rect;
 
     private static final Identifier TEXTURE = AE2AddonLib.makeId("textures/guis/states.png");
-    private static final int TEXTURE_WIDTH = 256;
-    private static final int TEXTURE_HEIGHT = 256;
+    private static final Size TEXTURE_SIZE = new Size(256, 256);
 
     LibIcons(int x, int y) {
         this(x, y, 16, 16);
     }
 
     LibIcons(int x, int y, int width, int height) {
-        this.x = x;
-        this.y = y;
-        this.width = width;
-        this.height = height;
+        this.rect = new Rect2i(x, y, width, height);
     }
 
     @Override
@@ -45,11 +38,15 @@ public enum LibIcons implements IBlitterIcon {
 
     @Override
     public Size getTextureSize() {
-        return new Size(TEXTURE_WIDTH, TEXTURE_HEIGHT);
+        return TEXTURE_SIZE;
     }
 
+    /**
+     * Gets the texture rect. The returned rect is shared and must not be modified.
+     * @return The {@link Rect2i} of the texture.
+     */
     @Override
     public Rect2i getRect() {
-        return new Rect2i(x, y, width, height);
+        return this.rect;
     }
 }
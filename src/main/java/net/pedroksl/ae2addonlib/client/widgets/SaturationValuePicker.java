@@ -1,27 +1,17 @@
 package net.pedroksl.ae2addonlib.client.widgets;
 
-import java.awt.*;
 import java.util.function.BiConsumer;
 
-import com.mojang.blaze3d.pipeline.RenderPipeline;
 import com.mojang.blaze3d.platform.InputConstants;
-import com.mojang.blaze3d.vertex.VertexConsumer;
-
-import org.joml.Matrix3x2f;
-import org.joml.Matrix3x2fc;
-import org.jspecify.annotations.Nullable;
 
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphicsExtractor;
-import net.minecraft.client.gui.navigation.ScreenRectangle;
-import net.minecraft.client.gui.render.TextureSetup;
 import net.minecraft.client.renderer.Rect2i;
-import net.minecraft.client.renderer.RenderPipelines;
-import net.minecraft.client.renderer.state.gui.GuiElementRenderState;
 import net.minecraft.client.resources.sounds.SimpleSoundInstance;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.util.Mth;
-import net.pedroksl.ae2addonlib.util.Colors;
+import net.pedroksl.ae2addonlib.client.render.GradientRenderCache;
+import net.pedroksl.ae2addonlib.util.ColorMath;
 
 import appeng.client.Point;
 import appeng.client.gui.ICompositeWidget;
@@ -33,6 +23,8 @@ import appeng.client.gui.ICompositeWidget;
  */
 public class SaturationValuePicker implements ICompositeWidget {
 
+    private static final int HANDLE_COLOR = 0xFFFFFFFF;
+
     private Point position;
     private int width;
     private int height;
@@ -42,6 +34,7 @@ public class SaturationValuePicker implements ICompositeWidget {
     private float value;
 
     private final BiConsumer<Float, Float> saturationAndValueSetter;
+    private final GradientRenderCache gradientCache = new GradientRenderCache(SaturationValuePicker::buildGradient);
 
     private boolean isDragging = false;
 
@@ -71,26 +64,26 @@ public class SaturationValuePicker implements ICompositeWidget {
         var lineColor = 4276052 | (255 << 24);
         guiGraphics.fill(minX - 1, minY - 1, minX + w + 1, minY + h + 1, lineColor);
 
-        guiGraphics.submitGuiElementRenderState(new MultiGradientRectangleRenderState(
-                RenderPipelines.GUI,
-                TextureSetup.noTexture(),
-                new Matrix3x2f(guiGraphics.pose()),
-                minX,
-                minY,
-                minX + w,
-                minY + h,
-                Colors.ofHsv(hue, 0f, 1f).argb(),
-                Colors.ofHsv(hue, 1f, 1f).argb(),
-                Colors.ofHsv(hue, 0f, 0f).argb(),
-                Colors.ofHsv(hue, 1f, 0f).argb(),
-                guiGraphics.peekScissorStack()));
+        this.gradientCache.submit(guiGraphics, this.hue, minX, minY, minX + w, minY + h);
 
         int hsvX = minX + (int) (this.saturation * (this.width - 1));
         int hsvY = minY + (int) ((1f - this.value) * (this.height - 1));
-        guiGraphics.horizontalLine(hsvX - 1, hsvX + 1, hsvY - 1, Color.WHITE.getRGB());
-        guiGraphics.horizontalLine(hsvX - 1, hsvX + 1, hsvY + 1, Color.WHITE.getRGB());
-        guiGraphics.verticalLine(hsvX - 1, hsvY - 1, hsvY + 1, Color.WHITE.getRGB());
-        guiGraphics.verticalLine(hsvX + 1, hsvY - 1, hsvY + 1, Color.WHITE.getRGB());
+        guiGraphics.horizontalLine(hsvX - 1, hsvX + 1, hsvY - 1, HANDLE_COLOR);
+        guiGraphics.horizontalLine(hsvX - 1, hsvX + 1, hsvY + 1, HANDLE_COLOR);
+        guiGraphics.verticalLine(hsvX - 1, hsvY - 1, hsvY + 1, HANDLE_COLOR);
+        guiGraphics.verticalLine(hsvX + 1, hsvY - 1, hsvY + 1, HANDLE_COLOR);
+    }
+
+    private static void buildGradient(GradientRenderCache cache, float hue, int x0, int y0, int x1, int y1) {
+        cache.addRectangle(
+                x0,
+                y0,
+                x1,
+                y1,
+                ColorMath.hsvToArgb(hue, 0f, 1f),
+                ColorMath.hsvToArgb(hue, 1f, 1f),
+                ColorMath.hsvToArgb(hue, 0f, 0f),
+                ColorMath.hsvToArgb(hue, 1f, 0f));
     }
 
     @Override
@@ -186,71 +179,4 @@ public class SaturationValuePicker implements ICompositeWidget {
     public Rect2i getBounds() {
         return new Rect2i(this.position.getX(), this.position.getY(), this.width, this.height);
     }
-
-    private record MultiGradientRectangleRenderState(
-            RenderPipeline pipeline,
-            TextureSetup textureSetup,
-            Matrix3x2fc pose,
-            int x0,
-            int y0,
-            int x1,
-            int y1,
-            int tlColor,
-            int trColor,
-            int blColor,
-            int brColor,
-            @Nullable ScreenRectangle scissorArea,
-            @Nullable ScreenRectangle bounds)
-            implements GuiElementRenderState {
-        public MultiGradientRectangleRenderState(
-                RenderPipeline pipeline,
-                TextureSetup textureSetup,
-                Matrix3x2fc pose,
-                int x0,
-                int y0,
-                int x1,
-                int y1,
-                int tlColor,
-                int trColor,
-                int blColor,
-                int brColor,
-                @Nullable ScreenRectangle scissorArea) {
-            this(
-                    pipeline,
-                    textureSetup,
-                    pose,
-                    x0,
-                    y0,
-                    x1,
-                    y1,
-                    tlColor,
-                    trColor,
-                    blColor,
-                    brColor,
-                    scissorArea,
-                    getBounds(x0, y0, x1, y1, pose, scissorArea));
-        }
-
-        @Override
-        public void buildVertices(VertexConsumer vertexConsumer) {
-            vertexConsumer
-                    .addVertexWith2DPose(this.pose(), (float) x1, (float) y0)
-                    .setColor(trColor);
-            vertexConsumer
-                    .addVertexWith2DPose(this.pose(), (float) x0, (float) y0)
-                    .setColor(tlColor);
-            vertexConsumer
-                    .addVertexWith2DPose(this.pose(), (float) x0, (float) y1)
-                    .setColor(blColor);
-            vertexConsumer
-                    .addVertexWith2DPose(this.pose(), (float) x1, (float) y1)
-                    .setColor(brColor);
-        }
-
-        private static @Nullable ScreenRectangle getBounds(
-                int x0, int y0, int x1, int y1, Matrix3x2fc pose, @Nullable ScreenRectangle scissorArea) {
-            ScreenRectangle bounds = (new ScreenRectangle(x0, y0, x1 - x0, y1 - y0)).transformMaxBounds(pose);
-            return scissorArea != null ? scissorArea.intersection(bounds) : bounds;
-        }
-    }
 }
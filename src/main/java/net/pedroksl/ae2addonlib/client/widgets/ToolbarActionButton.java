@@ -20,6 +20,7 @@ public class ToolbarActionButton extends AddonIconButton {
     private static final Logger LOG = LogUtils.getLogger();
     private static final Map<IActionEnum, ButtonAppearance> APPEARANCES = new HashMap<>();
     private final IActionEnum action;
+    private final ButtonAppearance appearance;
 
     /**
      * Constructs an action button using an action's appearance and a custom runnable.
@@ -40,7 +41,8 @@ public class ToolbarActionButton extends AddonIconButton {
 
         this.action = action;
 
-        if (!APPEARANCES.containsKey(action)) {
+        var cached = APPEARANCES.get(action);
+        if (cached == null) {
             ButtonAppearance app;
             if (action instanceof AddonActionItems) {
                 app = getLibAppearance(action);
@@ -53,8 +55,10 @@ public class ToolbarActionButton extends AddonIconButton {
                 throw new IllegalArgumentException();
             } else {
                 APPEARANCES.put(action, app);
+                cached = app;
             }
         }
+        this.appearance = cached;
     }
 
     /**
@@ -120,7 +124,7 @@ public class ToolbarActionButton extends AddonIconButton {
 
     @Override
     protected IBlitterIcon getIcon() {
-        var app = APPEARANCES.get(this.action);
+        var app = this.appearance;
         if (app != null && app.icon != null) {
             return app.icon;
         }
@@ -129,7 +133,7 @@ public class ToolbarActionButton extends AddonIconButton {
 
     @Override
     public List<Component> getTooltipMessage() {
-        var app = APPEARANCES.get(this.action);
+        var app = this.appearance;
         if (app != null && app.tooltipLines != null) {
             return app.tooltipLines();
         }
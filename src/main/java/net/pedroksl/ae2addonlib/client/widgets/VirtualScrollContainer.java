@@ -0,0 +1,185 @@
+package net.pedroksl.ae2addonlib.client.widgets;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import com.mojang.logging.LogUtils;
+
+import org.slf4j.Logger;
+
+import net.minecraft.client.gui.components.events.GuiEventListener;
+
+import appeng.client.Point;
+import appeng.client.gui.ICompositeWidget;
+import appeng.client.gui.style.ScreenStyle;
+
+/**
+ * <p>A scrollable {@link CompositeWidgetContainer} that displays a list of rows of fixed height.</p>
+ * Only enough rows to fill the viewport are ever created. When the list is scrolled, the same row widgets are kept in
+ * place and bound to different data indices, so the cost of populating, ticking and drawing the container does not
+ * depend on the total number of rows.
+ * @param <R> The type of the row widget.
+ */
+public class VirtualScrollContainer<R extends VirtualScrollContainer.Row> extends CompositeWidgetContainer {
+    private static final Logger LOG = LogUtils.getLogger();
+
+    /**
+     * A row of a {@link VirtualScrollContainer}. Rows are recycled, so all state shown by a row must come from
+     * {@link #bind(int)}.
+     */
+    public interface Row extends ICompositeWidget {
+        /**
+         * Binds the row to a data index, updating every child widget to display that entry.
+         * @param index The index of the data entry.
+         */
+        void bind(int index);
+
+        /**
+         * Shows or hides the row. Rows past the end of the data are hidden, and must also hide any
+         * {@link net.minecraft.client.gui.components.AbstractWidget} they registered with the screen.
+         * @param visible True if the row should be visible, false otherwise.
+         */
+        void setRowVisible(boolean visible);
+    }
+
+    private final int rowHeight;
+    private final List<R> rows = new ArrayList<>();
+
+    private int rowCount = 0;
+    private int firstRow = 0;
+
+    /**
+     * Constructs the container, creating enough rows to fill its height.
+     * @param addWidget The method to be called when adding the widgets. This will generally be {@link appeng.client.gui.AEBaseScreen#addWidget(GuiEventListener)}.
+     * @param style The screen style.
+     * @param id The id of the widget, as declared in the style sheet.
+     * @param rowHeight The height of each row. Must be positive.
+     * @param rowFactory The factory used to create the row widgets.
+     */
+    public VirtualScrollContainer(
+            BiConsumer<String, ICompositeWidget> addWidget,
+            ScreenStyle style,
+            String id,
+            int rowHeight,
+            Supplier<R> rowFactory) {
+        // Validated before the super constructor registers the container with the screen
+        super(addWidget, style, checkRowHeight(id, rowHeight));
+        this.rowHeight = rowHeight;
+
+        var visibleRows = Math.max(1, this.height / rowHeight);
+        for (var i = 0; i < visibleRows; i++) {
+            var row = rowFactory.get();
+            row.setSize(this.width, rowHeight);
+            this.rows.add(row);
+            this.add(new Point(0, i * rowHeight), row);
+        }
+
+        rebind();
+    }
+
+    private static String checkRowHeight(String id, int rowHeight) {
+        if (rowHeight <= 0) {
+            LOG.error("Invalid row height for virtual scroll container {}: {}", id, rowHeight);
+            throw new IllegalArgumentException("Row height of virtual scroll container " + id + " must be positive");
+        }
+        return id;
+    }
+
+    /**
+     * Getter for the row height.
+     * @return The height of each row.
+     */
+    public int getRowHeight() {
+        return this.rowHeight;
+    }
+
+    /**
+     * Getter for the number of rows that fit in the viewport.
+     * @return The number of row widgets in the container.
+     */
+    public int getVisibleRowCount() {
+        return this.rows.size();
+    }
+
+    /**
+     * Getter for the total number of rows.
+     * @return The total number of data entries.
+     */
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * Sets the total number of rows and rebinds the visible ones.
+     * @param rowCount The total number of data entries.
+     */
+    public void setRowCount(int rowCount) {
+        this.rowCount = Math.max(0, rowCount);
+        this.firstRow = Math.clamp(this.firstRow, 0, getMaxScroll());
+        rebind();
+    }
+
+    /**
+     * Getter for the current scroll.
+     * @return The data index shown by the first row.
+     */
+    public int getFirstVisibleRow() {
+        return this.firstRow;
+    }
+
+    /**
+     * Getter for the maximum scroll.
+     * @return The highest data index that can be shown by the first row.
+     */
+    public int getMaxScroll() {
+        return Math.max(0, this.rowCount - this.rows.size());
+    }
+
+    /**
+     * Scrolls the container so the given data index is shown by the first row.
+     * @param firstRow The data index to scroll to. Clamped to the valid range.
+     */
+    public void scrollTo(int firstRow) {
+        var clamped = Math.clamp(firstRow, 0, getMaxScroll());
+        if (clamped != this.firstRow) {
+            this.firstRow = clamped;
+            rebind();
+        }
+    }
+
+    /**
+     * Rebinds every visible row, for when the underlying data changed without the row count changing.
+     */
+    public void refresh() {
+        rebind();
+    }
+
+    private void rebind() {
+        for (var i = 0; i < this.rows.size(); i++) {
+            var row = this.rows.get(i);
+            var index = this.firstRow + i;
+            if (index < this.rowCount) {
+                row.bind(index);
+                row.setRowVisible(true);
+            } else {
+                row.setRowVisible(false);
+            }
+        }
+    }
+
+    @Override
+    public boolean onMouseWheel(Point mousePos, double wheelDelta) {
+        if (super.onMouseWheel(mousePos, wheelDelta)) {
+            return true;
+        }
+
+        if (wheelDelta == 0 || getMaxScroll() == 0) {
+            return false;
+        }
+
+        scrollTo(this.firstRow - (int) Math.signum(wheelDelta));
+        return true;
+    }
+}
@@ -0,0 +1,130 @@
+package net.pedroksl.ae2addonlib.client.widgets;
+
+import java.util.List;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+import appeng.client.gui.ICompositeWidget;
+
+/**
+ * Uniform grid over the bounds of the children of a {@link CompositeWidgetContainer}, used to find the widgets under the
+ * cursor without walking every child. Widgets are referenced by their index in the container, and every query returns
+ * them in ascending order, so the dispatch order of the container is preserved.
+ */
+final class WidgetSpatialIndex {
+
+    private final int cellSize;
+    private final Long2ObjectOpenHashMap<IntArrayList> cells = new Long2ObjectOpenHashMap<>();
+
+    private int[] bounds = new int[0];
+
+    private final IntArrayList wantsAllMouseDown = new IntArrayList();
+    private final IntArrayList wantsAllMouseUp = new IntArrayList();
+    private final IntArrayList wantsAllMouseWheel = new IntArrayList();
+
+    WidgetSpatialIndex(int cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    void rebuild(List<ICompositeWidget> widgets) {
+        this.cells.clear();
+        this.wantsAllMouseDown.clear();
+        this.wantsAllMouseUp.clear();
+        this.wantsAllMouseWheel.clear();
+        if (this.bounds.length < widgets.size() * 4) {
+            this.bounds = new int[widgets.size() * 4];
+        }
+
+        for (var i = 0; i < widgets.size(); i++) {
+            var widget = widgets.get(i);
+            var rect = widget.getBounds();
+            this.bounds[i * 4] = rect.getX();
+            this.bounds[i * 4 + 1] = rect.getY();
+            this.bounds[i * 4 + 2] = rect.getX() + rect.getWidth();
+            this.bounds[i * 4 + 3] = rect.getY() + rect.getHeight();
+
+            if (widget.wantsAllMouseDownEvents()) this.wantsAllMouseDown.add(i);
+            if (widget.wantsAllMouseUpEvents()) this.wantsAllMouseUp.add(i);
+            if (widget.wantsAllMouseWheelEvents()) this.wantsAllMouseWheel.add(i);
+
+            if (rect.getWidth() <= 0 || rect.getHeight() <= 0) {
+                continue;
+            }
+
+            var minCellX = Math.floorDiv(rect.getX(), this.cellSize);
+            var minCellY = Math.floorDiv(rect.getY(), this.cellSize);
+            var maxCellX = Math.floorDiv(rect.getX() + rect.getWidth() - 1, this.cellSize);
+            var maxCellY = Math.floorDiv(rect.getY() + rect.getHeight() - 1, this.cellSize);
+            for (var cellX = minCellX; cellX <= maxCellX; cellX++) {
+                for (var cellY = minCellY; cellY <= maxCellY; cellY++) {
+                    var cell = this.cells.get(cellKey(cellX, cellY));
+                    if (cell == null) {
+                        cell = new IntArrayList(2);
+                        this.cells.put(cellKey(cellX, cellY), cell);
+                    }
+                    cell.add(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the widgets under a point, in ascending order.
+     */
+    void collectUnder(int x, int y, IntArrayList out) {
+        collect(x, y, null, out);
+    }
+
+    /**
+     * Collects the widgets under a point, merged with the widgets that want every mouse down event.
+     */
+    void collectMouseDown(int x, int y, IntArrayList out) {
+        collect(x, y, this.wantsAllMouseDown, out);
+    }
+
+    /**
+     * Collects the widgets under a point, merged with the widgets that want every mouse up event.
+     */
+    void collectMouseUp(int x, int y, IntArrayList out) {
+        collect(x, y, this.wantsAllMouseUp, out);
+    }
+
+    IntArrayList wantsAllMouseWheel() {
+        return this.wantsAllMouseWheel;
+    }
+
+    private void collect(int x, int y, IntArrayList always, IntArrayList out) {
+        out.clear();
+
+        var cell = this.cells.get(cellKey(Math.floorDiv(x, this.cellSize), Math.floorDiv(y, this.cellSize)));
+        var cellSize = cell != null ? cell.size() : 0;
+        var alwaysSize = always != null ? always.size() : 0;
+
+        int i = 0, j = 0;
+        while (i < cellSize || j < alwaysSize) {
+            var fromCell = i < cellSize ? cell.getInt(i) : Integer.MAX_VALUE;
+            var fromAlways = j < alwaysSize ? always.getInt(j) : Integer.MAX_VALUE;
+            if (fromAlways <= fromCell) {
+                out.add(fromAlways);
+                j++;
+                if (fromAlways == fromCell) i++;
+            } else {
+                if (contains(fromCell, x, y)) out.add(fromCell);
+                i++;
+            }
+        }
+    }
+
+    private boolean contains(int index, int x, int y) {
+        var offset = index * 4;
+        return x >= this.bounds[offset]
+                && y >= this.bounds[offset + 1]
+                && x < this.bounds[offset + 2]
+                && y < this.bounds[offset + 3];
+    }
+
+    private static long cellKey(int cellX, int cellY) {
+        return (long) cellX << 32 | cellY & 0xFFFFFFFFL;
+    }
+}
@@ -8,9 +8,14 @@ import net.minecraft.resources.Identifier;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.InterModComms;
 import net.neoforged.fml.ModContainer;
+import net.neoforged.fml.event.lifecycle.FMLLoadCompleteEvent;
 import net.neoforged.fml.event.lifecycle.InterModEnqueueEvent;
+import net.neoforged.neoforge.common.NeoForge;
+import net.pedroksl.ae2addonlib.core.metrics.PerfCommand;
 import net.pedroksl.ae2addonlib.core.network.LibNetworkHandler;
+import net.pedroksl.ae2addonlib.registry.RegistryProfiler;
 import net.pedroksl.ae2addonlib.registry.helpers.LibComponents;
+import net.pedroksl.ae2addonlib.registry.helpers.LibConfig;
 import net.pedroksl.ae2addonlib.registry.helpers.LibMenus;
 import net.pedroksl.ae2addonlib.util.LibAddons;
 
@@ -40,9 +45,13 @@ public class AE2AddonLib {
 
         LibMenus.INSTANCE.register(eventBus);
         LibComponents.INSTANCE.register(eventBus);
+        LibConfig.INSTANCE.register(modContainer, eventBus);
 
         eventBus.addListener(LibNetworkHandler.INSTANCE::register);
         eventBus.addListener(AE2AddonLib::imc);
+        eventBus.addListener((FMLLoadCompleteEvent event) -> RegistryProfiler.report());
+
+        NeoForge.EVENT_BUS.addListener(PerfCommand::register);
     }
 
     /**
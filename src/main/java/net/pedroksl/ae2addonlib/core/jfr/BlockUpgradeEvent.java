@@ -0,0 +1,37 @@
+package net.pedroksl.ae2addonlib.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event recorded around the block entity replacement done by block upgrade items.
+ * @see net.pedroksl.ae2addonlib.util.BlockUpgradeItem
+ */
+@Name("ae2addonlib.BlockUpgrade")
+@Label("Block Upgrade")
+@Category({"AE2AddonLib", "Block"})
+@Description("Time spent replacing a block entity with its upgraded version")
+@StackTrace(false)
+public class BlockUpgradeEvent extends jdk.jfr.Event {
+
+    /**
+     * The id of the mod that owns the upgrade item.
+     */
+    @Label("Mod Id")
+    public String modId;
+
+    /**
+     * The id of the replaced block.
+     */
+    @Label("From")
+    public String from;
+
+    /**
+     * The id of the new block.
+     */
+    @Label("To")
+    public String to;
+}
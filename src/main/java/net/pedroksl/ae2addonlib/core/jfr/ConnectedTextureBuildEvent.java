@@ -0,0 +1,31 @@
+package net.pedroksl.ae2addonlib.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event recorded around the part building of a connected texture model.
+ * @see net.pedroksl.ae2addonlib.client.render.ConnectedTexturesBaseBakedModel
+ */
+@Name("ae2addonlib.ConnectedTextureBuild")
+@Label("Connected Texture Build")
+@Category({"AE2AddonLib", "Render"})
+@Description("Time spent building the parts of a connected texture model")
+@StackTrace(false)
+public class ConnectedTextureBuildEvent extends jdk.jfr.Event {
+
+    /**
+     * The id of the mod that owns the block.
+     */
+    @Label("Mod Id")
+    public String modId;
+
+    /**
+     * The id of the block being rendered.
+     */
+    @Label("Block")
+    public String block;
+}
@@ -0,0 +1,37 @@
+package net.pedroksl.ae2addonlib.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event recorded around the grid resolution of a linked item.
+ * @see net.pedroksl.ae2addonlib.api.IGridLinkedItem
+ */
+@Name("ae2addonlib.GridLink")
+@Label("Grid Link")
+@Category({"AE2AddonLib", "Grid"})
+@Description("Time spent resolving the grid of a linked item")
+@StackTrace(false)
+public class GridLinkEvent extends jdk.jfr.Event {
+
+    /**
+     * The id of the mod that owns the item.
+     */
+    @Label("Mod Id")
+    public String modId;
+
+    /**
+     * The id of the linked item.
+     */
+    @Label("Item")
+    public String item;
+
+    /**
+     * Whether a grid was found.
+     */
+    @Label("Found")
+    public boolean found;
+}
@@ -0,0 +1,37 @@
+package net.pedroksl.ae2addonlib.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event recorded around the actions run for a hotkey pressed by a player.
+ * @see net.pedroksl.ae2addonlib.core.network.serverPacket.AddonHotkeyPacket
+ */
+@Name("ae2addonlib.HotkeyDispatch")
+@Label("Hotkey Dispatch")
+@Category({"AE2AddonLib", "Hotkey"})
+@Description("Time spent running the actions of a hotkey")
+@StackTrace(false)
+public class HotkeyDispatchEvent extends jdk.jfr.Event {
+
+    /**
+     * The id of the mod that owns the hotkey.
+     */
+    @Label("Mod Id")
+    public String modId;
+
+    /**
+     * The id of the hotkey.
+     */
+    @Label("Hotkey")
+    public String hotkey;
+
+    /**
+     * Whether one of the actions handled the hotkey.
+     */
+    @Label("Handled")
+    public boolean handled;
+}
@@ -0,0 +1,37 @@
+package net.pedroksl.ae2addonlib.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event recorded around the construction of menus registered through the lib's menu registries.
+ * @see net.pedroksl.ae2addonlib.registry.MenuRegistry
+ */
+@Name("ae2addonlib.MenuOpen")
+@Label("Menu Open")
+@Category({"AE2AddonLib", "Menu"})
+@Description("Time spent constructing a menu registered through the lib")
+@StackTrace(false)
+public class MenuOpenEvent extends jdk.jfr.Event {
+
+    /**
+     * The id of the mod that owns the menu.
+     */
+    @Label("Mod Id")
+    public String modId;
+
+    /**
+     * The id of the menu.
+     */
+    @Label("Menu")
+    public String menu;
+
+    /**
+     * Whether the menu was constructed on the client.
+     */
+    @Label("Client")
+    public boolean client;
+}
@@ -0,0 +1,31 @@
+package net.pedroksl.ae2addonlib.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event recorded around the decoding of a packet registered through the lib's network handlers.
+ * @see net.pedroksl.ae2addonlib.core.network.NetworkHandler
+ */
+@Name("ae2addonlib.PacketDecode")
+@Label("Packet Decode")
+@Category({"AE2AddonLib", "Network"})
+@Description("Time spent decoding a packet registered through the lib")
+@StackTrace(false)
+public class PacketDecodeEvent extends jdk.jfr.Event {
+
+    /**
+     * The id of the mod that owns the packet.
+     */
+    @Label("Mod Id")
+    public String modId;
+
+    /**
+     * The id of the packet type.
+     */
+    @Label("Packet")
+    public String packet;
+}
@@ -0,0 +1,38 @@
+package net.pedroksl.ae2addonlib.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event recorded around the supplier of a registry entry created through the lib's registries.
+ * Only emitted when registry profiling is enabled.
+ * @see net.pedroksl.ae2addonlib.registry.RegistryProfiler
+ */
+@Name("ae2addonlib.RegistryEntry")
+@Label("Registry Entry")
+@Category({"AE2AddonLib", "Registry"})
+@Description("Time spent in the supplier of a registry entry")
+@StackTrace(false)
+public class RegistryEntryEvent extends jdk.jfr.Event {
+
+    /**
+     * The kind of entry, e.g. item or block.
+     */
+    @Label("Kind")
+    public String kind;
+
+    /**
+     * The id of the mod that registered the entry.
+     */
+    @Label("Mod Id")
+    public String modId;
+
+    /**
+     * The path of the entry.
+     */
+    @Label("Entry")
+    public String entry;
+}
@@ -0,0 +1,55 @@
+package net.pedroksl.ae2addonlib.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free event counter. Increments are dropped while metrics are disabled.
+ */
+public final class Counter {
+    private final String name;
+    private final LongAdder count = new LongAdder();
+
+    Counter(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Getter for the counter's name.
+     * @return The name, in the {@code subsystem/path} format.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Counts one event.
+     */
+    public void increment() {
+        add(1);
+    }
+
+    /**
+     * Counts a number of events.
+     * @param amount The number of events.
+     */
+    public void add(long amount) {
+        if (LibMetrics.isEnabled()) {
+            this.count.add(amount);
+        }
+    }
+
+    /**
+     * Getter for the current count.
+     * @return The number of events counted since the last reset.
+     */
+    public long get() {
+        return this.count.sum();
+    }
+
+    /**
+     * Clears the count.
+     */
+    public void reset() {
+        this.count.reset();
+    }
+}
@@ -0,0 +1,158 @@
+package net.pedroksl.ae2addonlib.core.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.mojang.logging.LogUtils;
+
+import org.slf4j.Logger;
+
+import net.pedroksl.ae2addonlib.registry.helpers.LibConfig;
+
+/**
+ * <p>Registry of the lib's runtime metrics.</p>
+ * Timers and counters are created once, usually stored in static fields, and are cheap enough to be used on hot paths.
+ * Recording is gated by {@link LibConfig#ENABLE_METRICS}, so disabled metrics cost a single volatile read. The values
+ * can be inspected in game with {@code /ae2addonlib perf}.
+ */
+public final class LibMetrics {
+    private static final Logger LOG = LogUtils.getLogger();
+
+    private static final Map<String, Timer> TIMERS = new ConcurrentHashMap<>();
+    private static final Map<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+
+    private static volatile long resetTime = System.nanoTime();
+
+    /**
+     * Time spent building the parts of connected texture models.
+     */
+    public static final Timer CONNECTED_TEXTURES = timer("render/connected_textures");
+
+    /**
+     * Time spent handling fluid tank item interactions.
+     */
+    public static final Timer TANK_ITEM_USE = timer("fluid_tank/item_use");
+
+    /**
+     * Time spent running the actions of a hotkey.
+     */
+    public static final Timer HOTKEY_DISPATCH = timer("hotkey/dispatch");
+
+    /**
+     * Number of hotkey presses dropped by the hotkey cooldown.
+     */
+    public static final Counter HOTKEY_THROTTLED = counter("hotkey/throttled");
+
+    /**
+     * Time spent resolving the grid of linked items.
+     */
+    public static final Timer LINKED_GRID = timer("grid/linked_grid");
+
+    private LibMetrics() {}
+
+    /**
+     * Checks if metrics are being recorded.
+     * @return True if metrics are enabled in the lib's config.
+     */
+    public static boolean isEnabled() {
+        return LibConfig.ENABLE_METRICS.get();
+    }
+
+    /**
+     * Gets or creates a timer.
+     * @param name The name of the timer, in the {@code subsystem/path} format.
+     * @return The timer.
+     */
+    public static Timer timer(String name) {
+        return TIMERS.computeIfAbsent(name, Timer::new);
+    }
+
+    /**
+     * Gets or creates a counter.
+     * @param name The name of the counter, in the {@code subsystem/path} format.
+     * @return The counter.
+     */
+    public static Counter counter(String name) {
+        return COUNTERS.computeIfAbsent(name, Counter::new);
+    }
+
+    /**
+     * Clears every timer and counter.
+     */
+    public static void reset() {
+        TIMERS.values().forEach(Timer::reset);
+        COUNTERS.values().forEach(Counter::reset);
+        resetTime = System.nanoTime();
+    }
+
+    /**
+     * Builds a summary of every metric with recorded values, with rates and percentiles.
+     * @return The summary lines, sorted by name.
+     */
+    public static List<String> summary() {
+        var seconds = Math.max(1e-3, (System.nanoTime() - resetTime) / 1e9);
+        var lines = new ArrayList<String>();
+
+        for (var timer : sorted(TIMERS.values(), Timer::getName)) {
+            var snapshot = timer.snapshot();
+            if (snapshot.count() == 0) continue;
+
+            lines.add(String.format(
+                    "%s: %d (%.1f/s) mean %s p50 %s p90 %s p99 %s",
+                    snapshot.name(),
+                    snapshot.count(),
+                    snapshot.count() / seconds,
+                    formatNanos(snapshot.meanNanos()),
+                    formatNanos(snapshot.percentileNanos(0.5)),
+                    formatNanos(snapshot.percentileNanos(0.9)),
+                    formatNanos(snapshot.percentileNanos(0.99))));
+        }
+
+        for (var counter : sorted(COUNTERS.values(), Counter::getName)) {
+            var count = counter.get();
+            if (count == 0) continue;
+
+            lines.add(String.format("%s: %d (%.1f/s)", counter.getName(), count, count / seconds));
+        }
+        return lines;
+    }
+
+    /**
+     * Logs the summary along with the full histogram of every timer.
+     */
+    public static void dump() {
+        LOG.info("AE2AddonLib metrics, {} s since last reset:", (System.nanoTime() - resetTime) / 1_000_000_000L);
+        summary().forEach(line -> LOG.info("  {}", line));
+
+        for (var timer : sorted(TIMERS.values(), Timer::getName)) {
+            var snapshot = timer.snapshot();
+            if (snapshot.count() == 0) continue;
+
+            LOG.info("  {} histogram:", snapshot.name());
+            var buckets = snapshot.buckets();
+            for (int i = 0; i < buckets.length; i++) {
+                if (buckets[i] > 0) {
+                    LOG.info("    < {}: {}", formatNanos(1L << Math.min(i, 62)), buckets[i]);
+                }
+            }
+        }
+    }
+
+    private static <T> List<T> sorted(Iterable<T> values, Function<T, String> name) {
+        var list = new ArrayList<T>();
+        values.forEach(list::add);
+        list.sort(Comparator.comparing(name));
+        return list;
+    }
+
+    private static String formatNanos(long nanos) {
+        if (nanos < 1_000) return nanos + "ns";
+        if (nanos < 1_000_000) return String.format("%.1fus", nanos / 1e3);
+        if (nanos < 1_000_000_000) return String.format("%.2fms", nanos / 1e6);
+        return String.format("%.2fs", nanos / 1e9);
+    }
+}
@@ -0,0 +1,71 @@
+package net.pedroksl.ae2addonlib.core.metrics;
+
+import com.mojang.brigadier.context.CommandContext;
+
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
+import net.neoforged.neoforge.event.RegisterCommandsEvent;
+import net.pedroksl.ae2addonlib.core.AE2AddonLib;
+
+/**
+ * <p>The {@code /ae2addonlib perf} command, used to inspect the lib's metrics.</p>
+ * {@code show} prints the summary in chat, {@code reset} clears every metric and {@code dump} writes the summary and
+ * the full histograms to the log.
+ */
+public final class PerfCommand {
+
+    private PerfCommand() {}
+
+    /**
+     * The {@link RegisterCommandsEvent} handler. Added as a listener to the game bus by the lib.
+     * @param event The event to be handled.
+     */
+    public static void register(RegisterCommandsEvent event) {
+        event.getDispatcher()
+                .register(Commands.literal(AE2AddonLib.MOD_ID)
+                        .requires(Commands.hasPermission(Commands.LEVEL_GAMEMASTERS))
+                        .then(Commands.literal("perf")
+                                .then(Commands.literal("show").executes(PerfCommand::show))
+                                .then(Commands.literal("reset").executes(PerfCommand::reset))
+                                .then(Commands.literal("dump").executes(PerfCommand::dump))));
+    }
+
+    private static int show(CommandContext<CommandSourceStack> context) {
+        var source = context.getSource();
+        if (!LibMetrics.isEnabled()) {
+            source.sendFailure(Component.literal("Metrics are disabled, enable them in the ae2addonlib common config"));
+            return 0;
+        }
+
+        var lines = LibMetrics.summary();
+        if (lines.isEmpty()) {
+            source.sendSuccess(() -> Component.literal("No metrics recorded yet"), false);
+            return 0;
+        }
+
+        source.sendSuccess(
+                () -> {
+                    MutableComponent message = Component.literal("AE2AddonLib metrics:");
+                    for (var line : lines) {
+                        message.append("\n  " + line);
+                    }
+                    return message;
+                },
+                false);
+        return lines.size();
+    }
+
+    private static int reset(CommandContext<CommandSourceStack> context) {
+        LibMetrics.reset();
+        context.getSource().sendSuccess(() -> Component.literal("AE2AddonLib metrics reset"), true);
+        return 1;
+    }
+
+    private static int dump(CommandContext<CommandSourceStack> context) {
+        LibMetrics.dump();
+        context.getSource().sendSuccess(() -> Component.literal("AE2AddonLib metrics written to the log"), false);
+        return 1;
+    }
+}
@@ -0,0 +1,127 @@
+package net.pedroksl.ae2addonlib.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Lock-free nanosecond histogram for a timed code path.</p>
+ * Durations are counted in power of two buckets, so recording is a couple of striped adds and percentiles are
+ * reported as the upper bound of the bucket they fall in. Use it with {@link #start()} and {@link #stop(long)}, which
+ * skip the clock entirely while metrics are disabled.
+ */
+public final class Timer {
+    /**
+     * Value returned by {@link #start()} while metrics are disabled.
+     */
+    public static final long DISABLED = Long.MIN_VALUE;
+
+    private static final int BUCKETS = 64;
+
+    private final String name;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+    Timer(String name) {
+        this.name = name;
+        for (int i = 0; i < BUCKETS; i++) {
+            this.buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Getter for the timer's name.
+     * @return The name, in the {@code subsystem/path} format.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Starts timing an execution.
+     * @return The start time to pass to {@link #stop(long)}, or {@link #DISABLED}.
+     */
+    public long start() {
+        return LibMetrics.isEnabled() ? System.nanoTime() : DISABLED;
+    }
+
+    /**
+     * Stops timing an execution and records its duration.
+     * @param start The value returned by {@link #start()}.
+     */
+    public void stop(long start) {
+        if (start == DISABLED) return;
+        record(System.nanoTime() - start);
+    }
+
+    /**
+     * Records a duration.
+     * @param nanos The duration in nanoseconds.
+     */
+    public void record(long nanos) {
+        nanos = Math.max(nanos, 0);
+        this.count.increment();
+        this.total.add(nanos);
+        this.buckets[bucketOf(nanos)].increment();
+    }
+
+    /**
+     * Takes a snapshot of the recorded values. Concurrent records may be partially included.
+     * @return The snapshot.
+     */
+    public Snapshot snapshot() {
+        var counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = this.buckets[i].sum();
+        }
+        return new Snapshot(this.name, this.count.sum(), this.total.sum(), counts);
+    }
+
+    /**
+     * Clears all recorded values.
+     */
+    public void reset() {
+        this.count.reset();
+        this.total.reset();
+        for (var bucket : this.buckets) {
+            bucket.reset();
+        }
+    }
+
+    private static int bucketOf(long nanos) {
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    /**
+     * Immutable view of a timer.
+     * @param name The timer's name.
+     * @param count The number of recorded executions.
+     * @param totalNanos The sum of the recorded durations.
+     * @param buckets The number of durations in each bucket. Bucket {@code i} holds durations below {@code 2^i} ns.
+     */
+    public record Snapshot(String name, long count, long totalNanos, long[] buckets) {
+        /**
+         * Getter for the mean duration.
+         * @return The mean duration in nanoseconds, or 0 if nothing was recorded.
+         */
+        public long meanNanos() {
+            return this.count == 0 ? 0 : this.totalNanos / this.count;
+        }
+
+        /**
+         * Estimates a percentile of the recorded durations.
+         * @param percentile The percentile, between 0 and 1.
+         * @return The upper bound of the bucket holding the percentile, in nanoseconds.
+         */
+        public long percentileNanos(double percentile) {
+            var target = (long) Math.ceil(this.count * percentile);
+            long seen = 0;
+            for (int i = 0; i < this.buckets.length; i++) {
+                seen += this.buckets[i];
+                if (seen >= target && seen > 0) {
+                    return i >= 63 ? Long.MAX_VALUE : 1L << i;
+                }
+            }
+            return 0;
+        }
+    }
+}
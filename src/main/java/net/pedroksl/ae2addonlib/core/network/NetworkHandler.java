@@ -4,7 +4,11 @@ import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.neoforged.neoforge.network.event.RegisterPayloadHandlersEvent;
+import net.neoforged.neoforge.network.handling.IPayloadHandler;
 import net.neoforged.neoforge.network.registration.PayloadRegistrar;
+import net.pedroksl.ae2addonlib.core.jfr.PacketDecodeEvent;
+import net.pedroksl.ae2addonlib.core.jfr.PacketHandleEvent;
+import net.pedroksl.ae2addonlib.core.metrics.LibMetrics;
 
 import appeng.core.network.ClientboundPacket;
 import appeng.core.network.CustomAppEngPayload;
@@ -55,7 +59,7 @@ public abstract class NetworkHandler {
             PayloadRegistrar registrar,
             CustomPacketPayload.Type<T> type,
             StreamCodec<RegistryFriendlyByteBuf, T> codec) {
-        registrar.playToClient(type, codec);
+        registrar.playToClient(type, recordedCodec(type, codec));
     }
 
     /**
@@ -69,7 +73,7 @@ public abstract class NetworkHandler {
             PayloadRegistrar registrar,
             CustomPacketPayload.Type<T> type,
             StreamCodec<RegistryFriendlyByteBuf, T> codec) {
-        registrar.playToServer(type, codec, ServerboundPacket::handleOnServer);
+        registrar.playToServer(type, recordedCodec(type, codec), recordedServerHandler(type));
     }
 
     /**
@@ -83,6 +87,53 @@ public abstract class NetworkHandler {
             PayloadRegistrar registrar,
             CustomPacketPayload.Type<T> type,
             StreamCodec<RegistryFriendlyByteBuf, T> codec) {
-        registrar.playBidirectional(type, codec, ServerboundPacket::handleOnServer);
+        registrar.playBidirectional(type, recordedCodec(type, codec), recordedServerHandler(type));
+    }
+
+    private static <T extends CustomPacketPayload> StreamCodec<RegistryFriendlyByteBuf, T> recordedCodec(
+            CustomPacketPayload.Type<T> type, StreamCodec<RegistryFriendlyByteBuf, T> codec) {
+        return new StreamCodec<>() {
+            @Override
+            public T decode(RegistryFriendlyByteBuf buffer) {
+                var event = new PacketDecodeEvent();
+                event.begin();
+                try {
+                    return codec.decode(buffer);
+                } finally {
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.modId = type.id().getNamespace();
+                        event.packet = type.id().toString();
+                        event.commit();
+                    }
+                }
+            }
+
+            @Override
+            public void encode(RegistryFriendlyByteBuf buffer, T value) {
+                codec.encode(buffer, value);
+            }
+        };
+    }
+
+    private static <T extends ServerboundPacket> IPayloadHandler<T> recordedServerHandler(
+            CustomPacketPayload.Type<T> type) {
+        var timer = LibMetrics.timer("packet/" + type.id());
+        return (packet, context) -> {
+            var event = new PacketHandleEvent();
+            event.begin();
+            var start = timer.start();
+            try {
+                packet.handleOnServer(context);
+            } finally {
+                timer.stop(start);
+                event.end();
+                if (event.shouldCommit()) {
+                    event.modId = type.id().getNamespace();
+                    event.packet = type.id().toString();
+                    event.commit();
+                }
+            }
+        };
     }
 }
@@ -1,21 +1,31 @@
 package net.pedroksl.ae2addonlib.core.network.clientPacket;
 
+import com.google.common.primitives.Ints;
+
+import org.jetbrains.annotations.Nullable;
+
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.neoforged.neoforge.fluids.FluidStack;
 
+import appeng.api.stacks.AEFluidKey;
+import appeng.api.stacks.GenericStack;
 import appeng.core.network.ClientboundPacket;
 import appeng.core.network.CustomAppEngPayload;
 
 /**
  * Record used to define a packet used to update the client's {@link net.pedroksl.ae2addonlib.client.widgets.FluidTankSlot} with
- * the appropriate amount of fluid,
+ * the appropriate amount of fluid. The amount is sent separately from the stack, since tanks can hold more than
+ * {@link Integer#MAX_VALUE} mB and {@link FluidStack} amounts are limited to an int.
  * @param index The index of the tank to be updated.
- * @param stack The {@link FluidStack} to set the slot to.
+ * @param stack The {@link FluidStack} to set the slot to. Its amount is clamped to an int.
+ * @param amount The real amount of fluid in the tank.
+ * @param sequence The sequence of the client prediction this update answers, or 0 for regular updates.
  */
-public record FluidTankStackUpdatePacket(int index, FluidStack stack) implements ClientboundPacket {
+public record FluidTankStackUpdatePacket(int index, FluidStack stack, long amount, int sequence)
+        implements ClientboundPacket {
 
     public static final StreamCodec<RegistryFriendlyByteBuf, FluidTankStackUpdatePacket> STREAM_CODEC =
             StreamCodec.composite(
@@ -23,11 +33,59 @@ public record FluidTankStackUpdatePacket(int index, FluidStack stack) implements
                     FluidTankStackUpdatePacket::index,
                     FluidStack.OPTIONAL_STREAM_CODEC,
                     FluidTankStackUpdatePacket::stack,
+                    ByteBufCodecs.VAR_LONG,
+                    FluidTankStackUpdatePacket::amount,
+                    ByteBufCodecs.VAR_INT,
+                    FluidTankStackUpdatePacket::sequence,
                     FluidTankStackUpdatePacket::new);
 
     public static final Type<FluidTankStackUpdatePacket> TYPE =
             CustomAppEngPayload.createType("ae2lib_fluid_tank_stack_update");
 
+    /**
+     * Constructs a packet using the stack's own amount.
+     * @param index The index of the tank to be updated.
+     * @param stack The {@link FluidStack} to set the slot to.
+     */
+    public FluidTankStackUpdatePacket(int index, FluidStack stack) {
+        this(index, stack, stack.getAmount(), 0);
+    }
+
+    /**
+     * Constructs a regular update packet.
+     * @param index The index of the tank to be updated.
+     * @param stack The {@link FluidStack} to set the slot to. Its amount is clamped to an int.
+     * @param amount The real amount of fluid in the tank.
+     */
+    public FluidTankStackUpdatePacket(int index, FluidStack stack, long amount) {
+        this(index, stack, amount, 0);
+    }
+
+    /**
+     * Creates a packet from a tank's {@link GenericStack}, keeping its full amount.
+     * @param index The index of the tank to be updated.
+     * @param stack The tank's stack. Null or non-fluid stacks are sent as empty.
+     * @return The packet.
+     */
+    public static FluidTankStackUpdatePacket of(int index, @Nullable GenericStack stack) {
+        return of(index, stack, 0);
+    }
+
+    /**
+     * Creates a packet from a tank's {@link GenericStack}, answering a client prediction.
+     * @param index The index of the tank to be updated.
+     * @param stack The tank's stack. Null or non-fluid stacks are sent as empty.
+     * @param sequence The sequence of the prediction being answered.
+     * @return The packet.
+     */
+    public static FluidTankStackUpdatePacket of(int index, @Nullable GenericStack stack, int sequence) {
+        if (stack == null || !(stack.what() instanceof AEFluidKey fluidKey) || stack.amount() <= 0) {
+            return new FluidTankStackUpdatePacket(index, FluidStack.EMPTY, 0, sequence);
+        }
+        return new FluidTankStackUpdatePacket(
+                index, fluidKey.toStack(Ints.saturatedCast(stack.amount())), stack.amount(), sequence);
+    }
+
     @Override
     public Type<? extends CustomPacketPayload> type() {
         return TYPE;
@@ -1,13 +1,22 @@
 package net.pedroksl.ae2addonlib.core.network.serverPacket;
 
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.server.level.ServerPlayer;
 import net.pedroksl.ae2addonlib.client.Hotkeys;
+import net.pedroksl.ae2addonlib.core.jfr.HotkeyDispatchEvent;
+import net.pedroksl.ae2addonlib.core.metrics.LibMetrics;
 import net.pedroksl.ae2addonlib.registry.HotkeyRegistry;
+import net.pedroksl.ae2addonlib.registry.helpers.LibConfig;
 
+import appeng.api.features.HotkeyAction;
 import appeng.core.AELog;
 import appeng.core.localization.PlayerMessages;
 import appeng.core.network.CustomAppEngPayload;
@@ -29,6 +38,8 @@ public record AddonHotkeyPacket(String modId, String hotkey) implements Serverbo
 
     public static final Type<AddonHotkeyPacket> TYPE = CustomAppEngPayload.createType("lib_hotkey");
 
+    private static final Map<ServerPlayer, Map<List<HotkeyAction>, Long>> LAST_HANDLED = new WeakHashMap<>();
+
     @Override
     public Type<AddonHotkeyPacket> type() {
         return TYPE;
@@ -52,10 +63,47 @@ public record AddonHotkeyPacket(String modId, String hotkey) implements Serverbo
             return;
         }
 
-        for (var action : actions) {
-            if (action.run(player)) {
-                break;
+        if (isThrottled(player, actions)) {
+            LibMetrics.HOTKEY_THROTTLED.increment();
+            return;
+        }
+
+        var event = new HotkeyDispatchEvent();
+        event.begin();
+        var start = LibMetrics.HOTKEY_DISPATCH.start();
+        var handled = false;
+        try {
+            for (var action : actions) {
+                if (action.run(player)) {
+                    handled = true;
+                    break;
+                }
             }
+        } finally {
+            LibMetrics.HOTKEY_DISPATCH.stop(start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.modId = modId;
+                event.hotkey = hotkey;
+                event.handled = handled;
+                event.commit();
+            }
+        }
+    }
+
+    private static boolean isThrottled(ServerPlayer player, List<HotkeyAction> actions) {
+        var cooldown = LibConfig.HOTKEY_COOLDOWN.get();
+        if (cooldown <= 0) return false;
+
+        // Held or spammed keys would otherwise run the actions once per packet. Only repeats of the same hotkey are
+        // dropped, and the registered action list identifies the hotkey without building a key per packet
+        var now = player.level().getGameTime();
+        var lastHandled = LAST_HANDLED.computeIfAbsent(player, p -> new IdentityHashMap<>());
+        var last = lastHandled.get(actions);
+        if (last != null && now - last >= 0 && now - last < cooldown) {
+            return true;
         }
+        lastHandled.put(actions, now);
+        return false;
     }
 }
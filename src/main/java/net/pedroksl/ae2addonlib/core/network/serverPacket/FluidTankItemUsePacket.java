@@ -5,7 +5,10 @@ import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.neoforge.network.PacketDistributor;
 import net.pedroksl.ae2addonlib.api.IFluidTankHandler;
+import net.pedroksl.ae2addonlib.core.metrics.LibMetrics;
+import net.pedroksl.ae2addonlib.core.network.clientPacket.FluidTankStackUpdatePacket;
 
 import appeng.core.network.CustomAppEngPayload;
 import appeng.core.network.ServerboundPacket;
@@ -14,8 +17,12 @@ import appeng.core.network.ServerboundPacket;
  * Record used to define the packet used to tell the server that the player is interacting with a {@link net.pedroksl.ae2addonlib.client.widgets.FluidTankSlot}.
  * @param index The slot index
  * @param button The button used in the interaction.
+ * @param bulk True if the whole carried stack should be processed at once.
+ * @param sequence The sequence of the client's prediction. When not 0, the server also answers with a
+ *                 {@link FluidTankStackUpdatePacket} carrying the same sequence, and no sound is sent since the client
+ *                 played it when predicting.
  */
-public record FluidTankItemUsePacket(int index, int button) implements ServerboundPacket {
+public record FluidTankItemUsePacket(int index, int button, boolean bulk, int sequence) implements ServerboundPacket {
 
     public static final StreamCodec<RegistryFriendlyByteBuf, FluidTankItemUsePacket> STREAM_CODEC =
             StreamCodec.composite(
@@ -23,8 +30,21 @@ public record FluidTankItemUsePacket(int index, int button) implements Serverbou
                     FluidTankItemUsePacket::index,
                     ByteBufCodecs.INT,
                     FluidTankItemUsePacket::button,
+                    ByteBufCodecs.BOOL,
+                    FluidTankItemUsePacket::bulk,
+                    ByteBufCodecs.VAR_INT,
+                    FluidTankItemUsePacket::sequence,
                     FluidTankItemUsePacket::new);
 
+    /**
+     * Constructs a packet for a single container interaction.
+     * @param index The slot index
+     * @param button The button used in the interaction.
+     */
+    public FluidTankItemUsePacket(int index, int button) {
+        this(index, button, false, 0);
+    }
+
     public static final Type<FluidTankItemUsePacket> TYPE = CustomAppEngPayload.createType("ae2lib_fluid_tank_packet");
 
     @Override
@@ -35,7 +55,28 @@ public record FluidTankItemUsePacket(int index, int button) implements Serverbou
     @Override
     public void handleOnServer(ServerPlayer serverPlayer) {
         if (serverPlayer.containerMenu instanceof IFluidTankHandler handler) {
-            handler.onItemUse(index, button);
+            var start = LibMetrics.TANK_ITEM_USE.start();
+            try {
+                if (sequence != 0) {
+                    // The client already played the sound along with its prediction
+                    handler.onItemUse(index, button, bulk);
+                } else if (!bulk) {
+                    // Single interactions keep going through the original method, so handlers overriding it still work
+                    handler.onItemUse(index, button);
+                } else {
+                    handler.sendItemUseFeedback(handler.onItemUse(index, button, true));
+                }
+            } finally {
+                LibMetrics.TANK_ITEM_USE.stop(start);
+            }
+
+            if (sequence != 0) {
+                // The client predicted the result, answer with the authoritative state of the tank
+                var tank = handler.getTank();
+                PacketDistributor.sendToPlayer(
+                        serverPlayer,
+                        FluidTankStackUpdatePacket.of(index, tank != null ? tank.getStack(index) : null, sequence));
+            }
         }
     }
 }
@@ -2,7 +2,13 @@ package net.pedroksl.ae2addonlib.datagen;
 
 import static net.minecraft.client.data.models.BlockModelGenerators.*;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import net.minecraft.client.color.item.Constant;
 import net.minecraft.client.data.models.BlockModelGenerators;
@@ -17,6 +23,9 @@ import net.minecraft.world.level.block.StairBlock;
 import net.minecraft.world.level.block.WallBlock;
 import net.neoforged.neoforge.client.model.item.DynamicFluidContainerModel;
 import net.pedroksl.ae2addonlib.core.AE2AddonLib;
+import net.pedroksl.ae2addonlib.registry.BlockRegistry;
+import net.pedroksl.ae2addonlib.registry.FluidRegistry;
+import net.pedroksl.ae2addonlib.registry.ItemRegistry;
 import net.pedroksl.ae2addonlib.registry.helpers.FluidDefinition;
 
 import appeng.api.orientation.BlockOrientation;
@@ -65,6 +74,11 @@ public abstract class AE2AddonModelProvider extends ModelSubProvider {
             TextureSlot.BACK,
             TextureSlot.PARTICLE);
 
+    private final List<Rule<ItemDefinition<?>>> itemRules = new ArrayList<>();
+    private final List<Rule<BlockDefinition<?>>> blockRules = new ArrayList<>();
+    private final List<Rule<FluidDefinition<?, ?>>> fluidRules = new ArrayList<>();
+    private final Set<Identifier> skipped = new HashSet<>();
+
     /**
      * Constructs the provider's instance.
      * @param blockModels The Block Model Generators.
@@ -76,6 +90,106 @@ public abstract class AE2AddonModelProvider extends ModelSubProvider {
         super(blockModels, itemModels, partModels);
     }
 
+    /**
+     * <p>Generates models for every item, block and fluid registered by a mod through the lib's registries.</p>
+     * Each definition is checked against the rules added with {@link #itemRule}, {@link #blockRule} and
+     * {@link #fluidRule}, in the order they were added, and the first match generates its model. Definitions without a
+     * matching rule use {@link #defaultItemModel}, {@link #defaultBlockModel} or {@link #defaultFluidModel}.
+     * Definitions marked with {@link #skip} are ignored, so their models can be generated manually.
+     * @param modId The MOD_ID of the mod whose definitions will be generated.
+     */
+    protected void generateAll(String modId) {
+        for (var item : ItemRegistry.getItems(modId)) {
+            if (!this.skipped.contains(item.id())) {
+                apply(this.itemRules, item, this::defaultItemModel);
+            }
+        }
+        for (var block : BlockRegistry.getBlocks(modId)) {
+            if (!this.skipped.contains(block.id())) {
+                apply(this.blockRules, block, this::defaultBlockModel);
+            }
+        }
+        for (var fluid : FluidRegistry.getFluids(modId)) {
+            if (!this.skipped.contains(fluid.id())) {
+                apply(this.fluidRules, fluid, this::defaultFluidModel);
+            }
+        }
+    }
+
+    private static <D> void apply(List<Rule<D>> rules, D definition, Consumer<D> fallback) {
+        for (var rule : rules) {
+            if (rule.predicate().test(definition)) {
+                rule.generator().accept(definition);
+                return;
+            }
+        }
+        fallback.accept(definition);
+    }
+
+    /**
+     * Adds a rule used by {@link #generateAll} for items.
+     * @param predicate The predicate that selects the items this rule applies to.
+     * @param generator The function that generates the item's models.
+     */
+    protected void itemRule(Predicate<ItemDefinition<?>> predicate, Consumer<ItemDefinition<?>> generator) {
+        this.itemRules.add(new Rule<>(predicate, generator));
+    }
+
+    /**
+     * Adds a rule used by {@link #generateAll} for blocks.
+     * @param predicate The predicate that selects the blocks this rule applies to.
+     * @param generator The function that generates the block's models.
+     */
+    protected void blockRule(Predicate<BlockDefinition<?>> predicate, Consumer<BlockDefinition<?>> generator) {
+        this.blockRules.add(new Rule<>(predicate, generator));
+    }
+
+    /**
+     * Adds a rule used by {@link #generateAll} for fluids.
+     * @param predicate The predicate that selects the fluids this rule applies to.
+     * @param generator The function that generates the fluid's models.
+     */
+    protected void fluidRule(Predicate<FluidDefinition<?, ?>> predicate, Consumer<FluidDefinition<?, ?>> generator) {
+        this.fluidRules.add(new Rule<>(predicate, generator));
+    }
+
+    /**
+     * Marks a definition to be ignored by {@link #generateAll}.
+     * @param id The id of the item, block or fluid.
+     */
+    protected void skip(Identifier id) {
+        this.skipped.add(id);
+    }
+
+    /**
+     * Default model used by {@link #generateAll} for items without a matching rule. Generates part item models for
+     * parts and flat item models for everything else.
+     * @param item The item's definition.
+     */
+    protected void defaultItemModel(ItemDefinition<?> item) {
+        if (item.asItem() instanceof PartItem<?>) {
+            partItem(item);
+        } else {
+            basicItem(item);
+        }
+    }
+
+    /**
+     * Default model used by {@link #generateAll} for blocks without a matching rule.
+     * @param block The block's definition.
+     */
+    protected void defaultBlockModel(BlockDefinition<?> block) {
+        basicBlock(block);
+    }
+
+    /**
+     * Default model used by {@link #generateAll} for fluids without a matching rule.
+     * @param fluid The fluid's definition.
+     */
+    protected void defaultFluidModel(FluidDefinition<?, ?> fluid) {
+        waterBasedFluid(fluid);
+    }
+
     /**
      * Constructs a model for a simple item from a {@link ItemDefinition}.
      * @param item The item's definition.
@@ -336,4 +450,6 @@ public abstract class AE2AddonModelProvider extends ModelSubProvider {
                         true,
                         false));
     }
+
+    private record Rule<D>(Predicate<D> predicate, Consumer<D> generator) {}
 }
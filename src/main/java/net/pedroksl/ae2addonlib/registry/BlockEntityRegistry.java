@@ -1,6 +1,7 @@
 package net.pedroksl.ae2addonlib.registry;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
@@ -13,9 +14,11 @@ import net.minecraft.core.registries.Registries;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.bus.api.EventPriority;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.loading.FMLEnvironment;
 import net.neoforged.neoforge.registries.DeferredRegister;
+import net.neoforged.neoforge.registries.RegisterEvent;
 
 import appeng.block.AEBaseEntityBlock;
 import appeng.blockentity.AEBaseBlockEntity;
@@ -33,6 +36,8 @@ public class BlockEntityRegistry {
 
     private static final Map<String, DeferredRegister<BlockEntityType<?>>> DRMap = new HashMap<>();
     private static final Map<String, List<DeferredBlockEntityType<?>>> BLOCK_ENTITY_TYPES_MAP = new HashMap<>();
+    private static final Map<String, Map<Class<?>, List<BlockEntityType<?>>>> CLASS_INDEX = new ConcurrentHashMap<>();
+    private static volatile Map<Class<?>, List<BlockEntityType<?>>> globalClassIndex;
     private final String modId;
 
     /**
@@ -73,21 +78,29 @@ public class BlockEntityRegistry {
 
     /**
      * Get all block entity types whose implementations extends the given base class.
+     * Once the block entity types are registered, the lookup is a single read of an index built at that point.
+     * The returned list is shared between callers and cannot be modified, copy it before making any changes.
      * @param modId The MOD_ID of the requesting mod.
      * @param baseClass The base class
      * @param <T> Class that extends a {@link BlockEntity}
-     * @return A list containing matching block entity types.
+     * @return An immutable list containing matching block entity types.
      */
     @SuppressWarnings("unchecked")
     public static <T extends BlockEntity> List<BlockEntityType<? extends T>> getSubclassesOf(
             String modId, Class<T> baseClass) {
-        var result = new ArrayList<BlockEntityType<? extends T>>();
-        for (var type : BLOCK_ENTITY_TYPES_MAP.getOrDefault(modId, new ArrayList<>())) {
-            if (baseClass.isAssignableFrom(type.getBlockEntityClass())) {
-                result.add((BlockEntityType<? extends T>) type.get());
-            }
-        }
-        return result;
+        return (List<BlockEntityType<? extends T>>) (List<?>) lookup(modId, baseClass);
+    }
+
+    /**
+     * Get all block entity types, from every mod using this registry, whose implementations extend the given base
+     * class. The returned list is shared between callers and cannot be modified.
+     * @param baseClass The base class
+     * @param <T> Class that extends a {@link BlockEntity}
+     * @return An immutable list containing matching block entity types.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends BlockEntity> List<BlockEntityType<? extends T>> getAllSubclassesOf(Class<T> baseClass) {
+        return (List<BlockEntityType<? extends T>>) (List<?>) lookupAll(baseClass);
     }
 
     /**
@@ -101,18 +114,75 @@ public class BlockEntityRegistry {
 
     /**
      * Get all block entity types whose implementations implement the given interface.
+     * Once the block entity types are registered, the lookup is a single read of an index built at that point.
+     * The returned list is shared between callers and cannot be modified, copy it before making any changes.
      * @param modId The MOD_ID of the requesting mod.
      * @param iface The parent interface
-     * @return A list containing matching block entity types.
+     * @return An immutable list containing matching block entity types.
      */
     public static List<BlockEntityType<?>> getImplementorsOf(String modId, Class<?> iface) {
+        return lookup(modId, iface);
+    }
+
+    /**
+     * Get all block entity types, from every mod using this registry, whose implementations implement the given
+     * interface. The returned list is shared between callers and cannot be modified.
+     * @param iface The parent interface
+     * @return An immutable list containing matching block entity types.
+     */
+    public static List<BlockEntityType<?>> getAllImplementorsOf(Class<?> iface) {
+        return lookupAll(iface);
+    }
+
+    private static List<BlockEntityType<?>> lookup(String modId, Class<?> parent) {
+        var index = CLASS_INDEX.get(modId);
+        if (index == null) {
+            // Not registered yet, fall back to scanning the types
+            return collect(BLOCK_ENTITY_TYPES_MAP.getOrDefault(modId, List.of()), parent);
+        }
+        return index.getOrDefault(parent, List.of());
+    }
+
+    private static List<BlockEntityType<?>> lookupAll(Class<?> parent) {
+        var index = globalClassIndex;
+        if (index == null) {
+            var types = new ArrayList<DeferredBlockEntityType<?>>();
+            BLOCK_ENTITY_TYPES_MAP.values().forEach(types::addAll);
+            return collect(types, parent);
+        }
+        return index.getOrDefault(parent, List.of());
+    }
+
+    private static List<BlockEntityType<?>> collect(List<DeferredBlockEntityType<?>> types, Class<?> parent) {
         var result = new ArrayList<BlockEntityType<?>>();
-        for (var type : BLOCK_ENTITY_TYPES_MAP.getOrDefault(modId, new ArrayList<>())) {
-            if (iface.isAssignableFrom(type.getBlockEntityClass())) {
+        for (var type : types) {
+            if (parent.isAssignableFrom(type.getBlockEntityClass())) {
                 result.add(type.get());
             }
         }
-        return result;
+        return List.copyOf(result);
+    }
+
+    private static Map<Class<?>, List<BlockEntityType<?>>> buildIndex(List<DeferredBlockEntityType<?>> types) {
+        var index = new HashMap<Class<?>, List<BlockEntityType<?>>>();
+        for (var type : types) {
+            var parents = new HashSet<Class<?>>();
+            addHierarchy(type.getBlockEntityClass(), parents);
+            for (var parent : parents) {
+                index.computeIfAbsent(parent, c -> new ArrayList<>()).add(type.get());
+            }
+        }
+        index.replaceAll((parent, list) -> List.copyOf(list));
+        return Map.copyOf(index);
+    }
+
+    private static void addHierarchy(Class<?> clazz, Set<Class<?>> parents) {
+        if (clazz == null || !parents.add(clazz)) return;
+
+        addHierarchy(clazz.getSuperclass(), parents);
+        for (var iface : clazz.getInterfaces()) {
+            addHierarchy(iface, parents);
+        }
     }
 
     /**
@@ -138,7 +208,7 @@ public class BlockEntityRegistry {
             throw new IllegalArgumentException();
         }
 
-        var deferred = getDR(modId).register(id, () -> {
+        var deferred = getDR(modId).register(id, RegistryProfiler.wrap("block_entity", modId, id, () -> {
             var typeHolder = new AtomicReference<BlockEntityType<T>>();
             BlockEntityType.BlockEntitySupplier<T> supplier =
                     (pos, state) -> factory.create(typeHolder.get(), pos, state);
@@ -156,7 +226,7 @@ public class BlockEntityRegistry {
             }
 
             return type;
-        });
+        }));
 
         var result = new DeferredBlockEntityType<>(entityClass, deferred);
         BLOCK_ENTITY_TYPES_MAP.get(modId).add(result);
@@ -184,5 +254,20 @@ public class BlockEntityRegistry {
      */
     public void register(IEventBus eventBus) {
         getDR(this.modId).register(eventBus);
+        eventBus.addListener(EventPriority.LOWEST, this::onRegister);
+    }
+
+    private void onRegister(RegisterEvent event) {
+        // Runs after the deferred register, so the types are bound and no more can be added
+        if (event.getRegistryKey().equals(Registries.BLOCK_ENTITY_TYPE)) {
+            CLASS_INDEX.put(this.modId, buildIndex(BLOCK_ENTITY_TYPES_MAP.getOrDefault(this.modId, List.of())));
+
+            // The cross-mod index is only used once every mod has built its own
+            if (CLASS_INDEX.size() == BLOCK_ENTITY_TYPES_MAP.size()) {
+                var types = new ArrayList<DeferredBlockEntityType<?>>();
+                BLOCK_ENTITY_TYPES_MAP.values().forEach(types::addAll);
+                globalClassIndex = buildIndex(types);
+            }
+        }
     }
 }
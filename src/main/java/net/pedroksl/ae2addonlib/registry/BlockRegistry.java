@@ -3,10 +3,12 @@ package net.pedroksl.ae2addonlib.registry;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import com.mojang.logging.LogUtils;
 
@@ -20,9 +22,11 @@ import net.minecraft.world.item.BlockItem;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockBehaviour.Properties;
+import net.neoforged.bus.api.EventPriority;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.loading.FMLEnvironment;
 import net.neoforged.neoforge.registries.DeferredRegister;
+import net.neoforged.neoforge.registries.RegisterEvent;
 
 import appeng.block.AEBaseBlock;
 import appeng.block.AEBaseBlockItem;
@@ -40,6 +44,7 @@ public class BlockRegistry {
 
     private static final Map<String, DeferredRegister.Blocks> DRMap = new HashMap<>();
     private static final Map<String, List<BlockDefinition<?>>> BLOCKS = new HashMap<>();
+    private static final Map<Block, BlockDefinition<?>> DEFINITIONS = new IdentityHashMap<>();
     private final String modId;
 
     /**
@@ -84,6 +89,17 @@ public class BlockRegistry {
         return Collections.unmodifiableList(BLOCKS.getOrDefault(modId, new ArrayList<>()));
     }
 
+    /**
+     * Finds the definition of a block registered through any mod using this registry.
+     * The lookup is available once the blocks are registered. Block items can be looked up through
+     * {@link ItemRegistry#getDefinition}.
+     * @param block The block.
+     * @return The block's {@link BlockDefinition}. Null if the block was not registered through this registry.
+     */
+    public static @Nullable BlockDefinition<?> getDefinition(Block block) {
+        return DEFINITIONS.get(block);
+    }
+
     /**
      * Overload of {@link #block(String, Identifier, Function, BiFunction)} that passes in a null item factory
      * for simple blocks that use the default {@link BlockItem}.
@@ -113,8 +129,9 @@ public class BlockRegistry {
             Function<Properties, T> blockSupplier,
             @Nullable BiFunction<Block, Item.Properties, BlockItem> itemFactory) {
         var modId = id.getNamespace();
-        var deferredBlock = getDR(modId).registerBlock(id.getPath(), blockSupplier);
-        var deferredItem = ItemRegistry.getDR(modId).register(id.getPath(), () -> {
+        var deferredBlock = getDR(modId)
+                .registerBlock(id.getPath(), RegistryProfiler.wrap("block", modId, id.getPath(), blockSupplier));
+        Supplier<BlockItem> itemSupplier = () -> {
             var block = deferredBlock.get();
             var itemProperties = new Item.Properties()
                     .setId(ResourceKey.create(Registries.ITEM, id))
@@ -130,7 +147,9 @@ public class BlockRegistry {
             } else {
                 return new BlockItem(block, itemProperties);
             }
-        });
+        };
+        var deferredItem = ItemRegistry.getDR(modId)
+                .register(id.getPath(), RegistryProfiler.wrap("block_item", modId, id.getPath(), itemSupplier));
 
         var itemDef = new ItemDefinition<>(englishName, deferredItem);
         BlockDefinition<T> definition = new BlockDefinition<>(englishName, deferredBlock, itemDef);
@@ -145,5 +164,16 @@ public class BlockRegistry {
      */
     public void register(IEventBus eventBus) {
         getDR(this.modId).register(eventBus);
+        eventBus.addListener(EventPriority.LOWEST, this::onRegister);
+    }
+
+    private void onRegister(RegisterEvent event) {
+        // Runs after the deferred registers, so the holders are already bound
+        var definitions = BLOCKS.getOrDefault(this.modId, List.of());
+        if (event.getRegistryKey().equals(Registries.BLOCK)) {
+            definitions.forEach(definition -> DEFINITIONS.put(definition.block(), definition));
+        } else if (event.getRegistryKey().equals(Registries.ITEM)) {
+            definitions.forEach(definition -> ItemRegistry.index(definition.item()));
+        }
     }
 }
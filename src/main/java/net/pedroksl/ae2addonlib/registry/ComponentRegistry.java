@@ -5,6 +5,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import com.mojang.logging.LogUtils;
 
@@ -87,9 +88,12 @@ public class ComponentRegistry {
      */
     protected static <T> DataComponentType<T> register(
             String modId, String id, Consumer<DataComponentType.Builder<T>> customizer) {
-        var builder = DataComponentType.<T>builder();
-        customizer.accept(builder);
-        var componentType = builder.build();
+        Supplier<DataComponentType<T>> factory = () -> {
+            var builder = DataComponentType.<T>builder();
+            customizer.accept(builder);
+            return builder.build();
+        };
+        var componentType = RegistryProfiler.wrap("component", modId, id, factory).get();
         getDR(modId).register(id, () -> componentType);
         return componentType;
     }
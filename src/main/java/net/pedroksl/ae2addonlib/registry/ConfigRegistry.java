@@ -1,5 +1,17 @@
 package net.pedroksl.ae2addonlib.registry;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.mojang.logging.LogUtils;
+
+import org.slf4j.Logger;
+
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.fml.config.IConfigSpec;
+import net.neoforged.fml.event.config.ModConfigEvent;
 import net.neoforged.neoforge.common.ModConfigSpec;
 import net.neoforged.neoforge.common.ModConfigSpec.BooleanValue;
 import net.neoforged.neoforge.common.ModConfigSpec.DoubleValue;
@@ -7,9 +19,17 @@ import net.neoforged.neoforge.common.ModConfigSpec.EnumValue;
 import net.neoforged.neoforge.common.ModConfigSpec.IntValue;
 
 /**
- * Helper class with useful config builder methods.
+ * <p>Helper class with useful config builder methods.</p>
+ * Values read on hot paths can be wrapped with {@link #cached} into snapshots that hold a plain field. Specs holding
+ * snapshots must be built with {@link #build(ModConfigSpec.Builder)}, which ties the snapshots to their spec. They are
+ * then refreshed when that spec loads or reloads, once {@link #registerSnapshotListeners(IEventBus)} has been called.
  */
 public class ConfigRegistry {
+    private static final Logger LOG = LogUtils.getLogger();
+
+    private static final Map<IConfigSpec, List<Snapshot>> SNAPSHOTS = new ConcurrentHashMap<>();
+    // Mods are constructed in parallel, so snapshots waiting for their spec are tracked per thread
+    private static final ThreadLocal<List<Snapshot>> PENDING = ThreadLocal.withInitial(ArrayList::new);
 
     /**
      * Helper method to create a boolean config with a default value and a comment line.
@@ -171,4 +191,232 @@ public class ConfigRegistry {
         builder.comment(comment);
         return defineEnum(builder, name, defaultValue);
     }
+
+    /**
+     * Wraps a boolean config into a cached snapshot.
+     * @param value The config value.
+     * @return The snapshot.
+     */
+    protected static BooleanSnapshot cached(BooleanValue value) {
+        return track(new BooleanSnapshot(value));
+    }
+
+    /**
+     * Wraps an int config into a cached snapshot.
+     * @param value The config value.
+     * @return The snapshot.
+     */
+    protected static IntSnapshot cached(IntValue value) {
+        return track(new IntSnapshot(value));
+    }
+
+    /**
+     * Wraps a double config into a cached snapshot.
+     * @param value The config value.
+     * @return The snapshot.
+     */
+    protected static DoubleSnapshot cached(DoubleValue value) {
+        return track(new DoubleSnapshot(value));
+    }
+
+    /**
+     * Wraps an enum config into a cached snapshot.
+     * @param value The config value.
+     * @param <T> The enum class
+     * @return The snapshot.
+     */
+    protected static <T extends Enum<T>> EnumSnapshot<T> cached(EnumValue<T> value) {
+        return track(new EnumSnapshot<>(value));
+    }
+
+    private static <S extends Snapshot> S track(S snapshot) {
+        PENDING.get().add(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Builds a config spec, tying to it every snapshot created since the last build on this thread.
+     * @param builder The config builder.
+     * @return The built spec.
+     */
+    protected static ModConfigSpec build(ModConfigSpec.Builder builder) {
+        var spec = builder.build();
+        var pending = PENDING.get();
+        if (!pending.isEmpty()) {
+            SNAPSHOTS.put(spec, List.copyOf(pending));
+            pending.clear();
+        }
+        return spec;
+    }
+
+    /**
+     * Registers the listeners that refresh the config snapshots when configs are loaded or reloaded.
+     * Should be called once by each mod that uses snapshots, from its main constructor, after its specs are built.
+     * @param eventBus The bus received as a parameter in the mod's main constructor.
+     */
+    public static void registerSnapshotListeners(IEventBus eventBus) {
+        var pending = PENDING.get();
+        if (!pending.isEmpty()) {
+            LOG.error("{} config snapshots were created without building their spec with build()", pending.size());
+            throw new IllegalStateException();
+        }
+
+        eventBus.addListener((ModConfigEvent.Loading event) -> refreshSnapshots(event.getConfig().getSpec()));
+        eventBus.addListener((ModConfigEvent.Reloading event) -> refreshSnapshots(event.getConfig().getSpec()));
+    }
+
+    private static void refreshSnapshots(IConfigSpec spec) {
+        var snapshots = SNAPSHOTS.get(spec);
+        if (snapshots == null) return;
+
+        for (var snapshot : snapshots) {
+            snapshot.refresh();
+        }
+    }
+
+    /**
+     * Base class of the config snapshots.
+     */
+    public abstract static class Snapshot {
+        Snapshot() {}
+
+        abstract void refresh();
+    }
+
+    /**
+     * Snapshot of a boolean config. Reading it is a single volatile read.
+     */
+    public static final class BooleanSnapshot extends Snapshot {
+        private final BooleanValue value;
+        private volatile boolean cached;
+
+        BooleanSnapshot(BooleanValue value) {
+            this.value = value;
+            this.cached = value.getDefault();
+        }
+
+        @Override
+        void refresh() {
+            this.cached = this.value.getAsBoolean();
+        }
+
+        /**
+         * Getter for the cached value.
+         * @return The value of the config when it was last loaded.
+         */
+        public boolean get() {
+            return this.cached;
+        }
+
+        /**
+         * Getter for the wrapped config value.
+         * @return The config value.
+         */
+        public BooleanValue getValue() {
+            return this.value;
+        }
+    }
+
+    /**
+     * Snapshot of an int config. Reading it is a single volatile read.
+     */
+    public static final class IntSnapshot extends Snapshot {
+        private final IntValue value;
+        private volatile int cached;
+
+        IntSnapshot(IntValue value) {
+            this.value = value;
+            this.cached = value.getDefault();
+        }
+
+        @Override
+        void refresh() {
+            this.cached = this.value.getAsInt();
+        }
+
+        /**
+         * Getter for the cached value.
+         * @return The value of the config when it was last loaded.
+         */
+        public int get() {
+            return this.cached;
+        }
+
+        /**
+         * Getter for the wrapped config value.
+         * @return The config value.
+         */
+        public IntValue getValue() {
+            return this.value;
+        }
+    }
+
+    /**
+     * Snapshot of a double config. Reading it is a single volatile read.
+     */
+    public static final class DoubleSnapshot extends Snapshot {
+        private final DoubleValue value;
+        private volatile double cached;
+
+        DoubleSnapshot(DoubleValue value) {
+            this.value = value;
+            this.cached = value.getDefault();
+        }
+
+        @Override
+        void refresh() {
+            this.cached = this.value.getAsDouble();
+        }
+
+        /**
+         * Getter for the cached value.
+         * @return The value of the config when it was last loaded.
+         */
+        public double get() {
+            return this.cached;
+        }
+
+        /**
+         * Getter for the wrapped config value.
+         * @return The config value.
+         */
+        public DoubleValue getValue() {
+            return this.value;
+        }
+    }
+
+    /**
+     * Snapshot of an enum config. Reading it is a single volatile read.
+     * @param <T> The enum class
+     */
+    public static final class EnumSnapshot<T extends Enum<T>> extends Snapshot {
+        private final EnumValue<T> value;
+        private volatile T cached;
+
+        EnumSnapshot(EnumValue<T> value) {
+            this.value = value;
+            this.cached = value.getDefault();
+        }
+
+        @Override
+        void refresh() {
+            this.cached = this.value.get();
+        }
+
+        /**
+         * Getter for the cached value.
+         * @return The value of the config when it was last loaded.
+         */
+        public T get() {
+            return this.cached;
+        }
+
+        /**
+         * Getter for the wrapped config value.
+         * @return The config value.
+         */
+        public EnumValue<T> getValue() {
+            return this.value;
+        }
+    }
 }
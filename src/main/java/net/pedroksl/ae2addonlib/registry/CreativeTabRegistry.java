@@ -2,7 +2,9 @@ package net.pedroksl.ae2addonlib.registry;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import com.mojang.logging.LogUtils;
@@ -11,17 +13,16 @@ import org.slf4j.Logger;
 
 import net.minecraft.core.registries.Registries;
 import net.minecraft.network.chat.Component;
+import net.minecraft.world.flag.FeatureFlagSet;
 import net.minecraft.world.item.CreativeModeTab;
 import net.minecraft.world.item.ItemStack;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.loading.FMLEnvironment;
 import net.neoforged.neoforge.registries.DeferredRegister;
-import net.pedroksl.ae2addonlib.registry.helpers.FluidDefinition;
 import net.pedroksl.ae2addonlib.registry.helpers.ICreativeTabItem;
 
 import appeng.block.AEBaseBlock;
 import appeng.block.AEBaseBlockItem;
-import appeng.core.definitions.BlockDefinition;
 import appeng.core.definitions.ItemDefinition;
 import appeng.items.AEBaseItem;
 
@@ -35,6 +36,7 @@ public class CreativeTabRegistry {
     private static final Logger LOG = LogUtils.getLogger();
 
     private static final Map<String, DeferredRegister<CreativeModeTab>> DRMap = new HashMap<>();
+    private static final Map<String, TabContents> TAB_CONTENTS = new ConcurrentHashMap<>();
     private final String modId;
 
     /**
@@ -74,34 +76,53 @@ public class CreativeTabRegistry {
      * Convenience method that will look for the implementations of #addToMainCreativeTab or their overrides for every
      * registered item, block or fluid. If an item doesn't extend from {@link AEBaseItem}, it can be marked with
      * {@link ICreativeTabItem} to add their own implementation of #addToMainCreativeTab.
+     * The dispatch list is cached per mod and only rebuilt when the enabled features change.
      * @param modId
      * @param params
      * @param output
      */
     private static void populateTab(
             String modId, CreativeModeTab.ItemDisplayParameters params, CreativeModeTab.Output output) {
-        var itemDefs = new ArrayList<ItemDefinition<?>>();
-        itemDefs.addAll(ItemRegistry.getItems(modId));
-        itemDefs.addAll(BlockRegistry.getBlocks(modId).stream()
-                .map(BlockDefinition::item)
-                .toList());
-        itemDefs.addAll(FluidRegistry.getFluids(modId).stream()
-                .map(FluidDefinition::bucketItemId)
-                .toList());
-
-        for (var itemDef : itemDefs) {
-            var item = itemDef.asItem();
-
-            // For block items, the block controls the creative tab
-            if (item instanceof AEBaseBlockItem baseItem && baseItem.getBlock() instanceof AEBaseBlock baseBlock) {
-                baseBlock.addToMainCreativeTab(params, output);
-            } else if (item instanceof AEBaseItem baseItem) {
-                baseItem.addToMainCreativeTab(params, output);
-            } else if (item instanceof ICreativeTabItem creativeTabItem) {
-                creativeTabItem.addToMainCreativeTab(params, output);
-            } else {
-                output.accept(itemDef);
-            }
+        var contents = TAB_CONTENTS.get(modId);
+        if (contents == null || !contents.features().equals(params.enabledFeatures())) {
+            contents = buildContents(modId, params.enabledFeatures());
+            TAB_CONTENTS.put(modId, contents);
+        }
+
+        for (var entry : contents.entries()) {
+            entry.accept(params, output);
+        }
+    }
+
+    private static TabContents buildContents(String modId, FeatureFlagSet features) {
+        var entries = new ArrayList<TabEntry>();
+        for (var itemDef : ItemRegistry.getItems(modId)) {
+            addEntry(entries, itemDef, features);
+        }
+        for (var blockDef : BlockRegistry.getBlocks(modId)) {
+            addEntry(entries, blockDef.item(), features);
+        }
+        for (var fluidDef : FluidRegistry.getFluids(modId)) {
+            addEntry(entries, fluidDef.bucketItemId(), features);
+        }
+        return new TabContents(features, entries.toArray(TabEntry[]::new));
+    }
+
+    private static void addEntry(List<TabEntry> entries, ItemDefinition<?> itemDef, FeatureFlagSet features) {
+        var item = itemDef.asItem();
+        if (!item.isEnabled(features)) {
+            return;
+        }
+
+        // For block items, the block controls the creative tab
+        if (item instanceof AEBaseBlockItem baseItem && baseItem.getBlock() instanceof AEBaseBlock baseBlock) {
+            entries.add(baseBlock::addToMainCreativeTab);
+        } else if (item instanceof AEBaseItem baseItem) {
+            entries.add(baseItem::addToMainCreativeTab);
+        } else if (item instanceof ICreativeTabItem creativeTabItem) {
+            entries.add(creativeTabItem::addToMainCreativeTab);
+        } else {
+            entries.add((params, output) -> output.accept(itemDef));
         }
     }
 
@@ -113,4 +134,11 @@ public class CreativeTabRegistry {
     public void register(IEventBus eventBus) {
         getDR(this.modId).register(eventBus);
     }
+
+    @FunctionalInterface
+    private interface TabEntry {
+        void accept(CreativeModeTab.ItemDisplayParameters params, CreativeModeTab.Output output);
+    }
+
+    private record TabContents(FeatureFlagSet features, TabEntry[] entries) {}
 }
@@ -10,15 +10,18 @@ import org.slf4j.Logger;
 
 import net.minecraft.core.registries.Registries;
 import net.minecraft.world.item.BucketItem;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.level.block.LiquidBlock;
 import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.material.Fluid;
+import net.neoforged.bus.api.EventPriority;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.loading.FMLEnvironment;
 import net.neoforged.neoforge.fluids.FluidType;
 import net.neoforged.neoforge.registries.DeferredRegister;
 import net.neoforged.neoforge.registries.NeoForgeRegistries;
+import net.neoforged.neoforge.registries.RegisterEvent;
 import net.pedroksl.ae2addonlib.registry.helpers.FluidDefinition;
 
 import appeng.core.definitions.ItemDefinition;
@@ -101,16 +104,26 @@ public class FluidRegistry {
             Supplier<F> flowingSupplier,
             Supplier<F> sourceSupplier,
             Function<BlockBehaviour.Properties, B> liquidBlockSupplier) {
-        var type = DR_FLUID_TYPES.get(modId).register(id + "_type", fluidTypeSupplier);
-        var flowing = DR_FLUIDS.get(modId).register(id + "_flowing", flowingSupplier);
-        var source = DR_FLUIDS.get(modId).register(id + "_source", sourceSupplier);
-        var block = DR_FLUID_BLOCKS.get(modId).registerBlock(id + "_block", liquidBlockSupplier);
+        var typeId = id + "_type";
+        var type = DR_FLUID_TYPES
+                .get(modId)
+                .register(typeId, RegistryProfiler.wrap("fluid_type", modId, typeId, fluidTypeSupplier));
+        var flowing = DR_FLUIDS
+                .get(modId)
+                .register(id + "_flowing", RegistryProfiler.wrap("fluid", modId, id + "_flowing", flowingSupplier));
+        var source = DR_FLUIDS
+                .get(modId)
+                .register(id + "_source", RegistryProfiler.wrap("fluid", modId, id + "_source", sourceSupplier));
+        var blockId = id + "_block";
+        var block = DR_FLUID_BLOCKS
+                .get(modId)
+                .registerBlock(blockId, RegistryProfiler.wrap("fluid_block", modId, blockId, liquidBlockSupplier));
+        Function<Item.Properties, BucketItem> bucketFactory =
+                p -> new BucketItem(source.get(), p.craftRemainder(Items.BUCKET).stacksTo(1));
+        var bucketId = id + "_bucket";
         var bucketItem = DR_BUCKET_ITEMS
                 .get(modId)
-                .registerItem(
-                        id + "_bucket",
-                        p -> new BucketItem(
-                                source.get(), p.craftRemainder(Items.BUCKET).stacksTo(1)));
+                .registerItem(bucketId, RegistryProfiler.wrap("bucket", modId, bucketId, bucketFactory));
 
         var bucketDefinition = new ItemDefinition<>(englishName + " Bucket", bucketItem);
         var definition = new FluidDefinition<>(englishName, type, flowing, source, block, bucketDefinition);
@@ -129,5 +142,14 @@ public class FluidRegistry {
         DR_FLUID_TYPES.get(this.modId).register(eventBus);
         DR_FLUIDS.get(this.modId).register(eventBus);
         DR_FLUID_BLOCKS.get(this.modId).register(eventBus);
+        eventBus.addListener(EventPriority.LOWEST, this::onRegister);
+    }
+
+    private void onRegister(RegisterEvent event) {
+        // Runs after the deferred registers, so the bucket holders are already bound
+        if (event.getRegistryKey().equals(Registries.ITEM)) {
+            FLUIDS.getOrDefault(this.modId, List.of())
+                    .forEach(definition -> ItemRegistry.index(definition.bucketItemId()));
+        }
     }
 }
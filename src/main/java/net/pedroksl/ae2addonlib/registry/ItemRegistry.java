@@ -5,13 +5,18 @@ import java.util.function.Function;
 
 import com.mojang.logging.LogUtils;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
+import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.Identifier;
 import net.minecraft.world.item.Item;
+import net.minecraft.world.level.ItemLike;
+import net.neoforged.bus.api.EventPriority;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.loading.FMLEnvironment;
 import net.neoforged.neoforge.registries.DeferredRegister;
+import net.neoforged.neoforge.registries.RegisterEvent;
 
 import appeng.api.parts.IPart;
 import appeng.api.parts.IPartItem;
@@ -29,6 +34,7 @@ public class ItemRegistry {
 
     private static final Map<String, DeferredRegister.Items> DRMap = new HashMap<>();
     private static final Map<String, List<ItemDefinition<?>>> ITEMS = new HashMap<>();
+    private static final Map<Item, ItemDefinition<?>> DEFINITIONS = new IdentityHashMap<>();
     private final String modId;
 
     /**
@@ -73,6 +79,21 @@ public class ItemRegistry {
         return Collections.unmodifiableList(ITEMS.getOrDefault(modId, new ArrayList<>()));
     }
 
+    /**
+     * Finds the definition of an item registered through any mod using the lib's registries, including block items
+     * and fluid buckets.
+     * The lookup is available once the items are registered.
+     * @param item The item.
+     * @return The item's {@link ItemDefinition}. Null if the item was not registered through this registry.
+     */
+    public static @Nullable ItemDefinition<?> getDefinition(ItemLike item) {
+        return DEFINITIONS.get(item.asItem());
+    }
+
+    static void index(ItemDefinition<?> definition) {
+        DEFINITIONS.put(definition.asItem(), definition);
+    }
+
     /**
      * Registers an item.
      * @param englishName Human-readable string to name the block. Can be used in a language provider to generate translations alongside {@link #getItems()}.
@@ -84,7 +105,8 @@ public class ItemRegistry {
     protected static <T extends Item> ItemDefinition<T> item(
             String englishName, Identifier id, Function<Item.Properties, T> factory) {
         var modId = id.getNamespace();
-        var definition = new ItemDefinition<>(englishName, getDR(modId).registerItem(id.getPath(), factory));
+        var profiledFactory = RegistryProfiler.wrap("item", modId, id.getPath(), factory);
+        var definition = new ItemDefinition<>(englishName, getDR(modId).registerItem(id.getPath(), profiledFactory));
         ITEMS.get(modId).add(definition);
         return definition;
     }
@@ -110,5 +132,13 @@ public class ItemRegistry {
      */
     public void register(IEventBus eventBus) {
         getDR(this.modId).register(eventBus);
+        eventBus.addListener(EventPriority.LOWEST, this::onRegister);
+    }
+
+    private void onRegister(RegisterEvent event) {
+        // Runs after the deferred register, so the holders are already bound
+        if (event.getRegistryKey().equals(Registries.ITEM)) {
+            ITEMS.getOrDefault(this.modId, List.of()).forEach(ItemRegistry::index);
+        }
     }
 }
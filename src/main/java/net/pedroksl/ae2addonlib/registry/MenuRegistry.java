@@ -10,10 +10,12 @@ import org.slf4j.Logger;
 
 import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.Identifier;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.inventory.MenuType;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.loading.FMLEnvironment;
 import net.neoforged.neoforge.registries.DeferredRegister;
+import net.pedroksl.ae2addonlib.core.jfr.MenuOpenEvent;
 
 import appeng.menu.AEBaseMenu;
 import appeng.menu.implementations.MenuTypeBuilder;
@@ -67,8 +69,32 @@ public abstract class MenuRegistry {
      */
     protected static <M extends AEBaseMenu, H> Supplier<MenuType<M>> create(
             String modId, String id, MenuTypeBuilder.MenuFactory<M, H> factory, Class<H> host) {
-        return getDR(modId).register(id, () -> MenuTypeBuilder.create(factory, host)
-                .build(Identifier.fromNamespaceAndPath(modId, id)));
+        return getDR(modId)
+                .register(
+                        id,
+                        RegistryProfiler.wrap(
+                                "menu", modId, id, () -> MenuTypeBuilder.create(recorded(modId, id, factory), host)
+                                        .build(Identifier.fromNamespaceAndPath(modId, id))));
+    }
+
+    private static <M extends AEBaseMenu, H> MenuTypeBuilder.MenuFactory<M, H> recorded(
+            String modId, String id, MenuTypeBuilder.MenuFactory<M, H> factory) {
+        return (containerId, playerInventory, menuHost) -> {
+            var event = new MenuOpenEvent();
+            event.begin();
+            var client = !(playerInventory.player instanceof ServerPlayer);
+            try {
+                return factory.create(containerId, playerInventory, menuHost);
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.modId = modId;
+                    event.menu = id;
+                    event.client = client;
+                    event.commit();
+                }
+            }
+        };
     }
 
     /**
@@ -81,7 +107,7 @@ public abstract class MenuRegistry {
      */
     protected static <T extends AEBaseMenu> Supplier<MenuType<T>> create(
             String modId, String id, Supplier<MenuType<T>> supplier) {
-        return getDR(modId).register(id, supplier);
+        return getDR(modId).register(id, RegistryProfiler.wrap("menu", modId, id, supplier));
     }
 
     /**
@@ -0,0 +1,150 @@
+package net.pedroksl.ae2addonlib.registry;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.mojang.logging.LogUtils;
+
+import org.slf4j.Logger;
+
+import net.pedroksl.ae2addonlib.core.jfr.RegistryEntryEvent;
+
+/**
+ * <p>Optional timing instrumentation for the suppliers handed to the lib's deferred registers.</p>
+ * Enabled by starting the game with {@code -Dae2addonlib.profileRegistries=true}. When enabled, every entry created
+ * through the lib's registries records how long its supplier took, emits a {@link RegistryEntryEvent} for JFR
+ * recordings, and a summary with per-mod totals and the slowest entries is logged once loading completes. The number
+ * of entries listed can be changed with {@code -Dae2addonlib.profileRegistries.top}. When disabled, suppliers are
+ * registered unchanged.
+ */
+public final class RegistryProfiler {
+    private static final Logger LOG = LogUtils.getLogger();
+
+    /**
+     * The system property that enables the profiler.
+     */
+    public static final String PROPERTY = "ae2addonlib.profileRegistries";
+
+    private static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+    private static final int SLOWEST_COUNT = Integer.getInteger(PROPERTY + ".top", 10);
+    private static final List<Sample> SAMPLES = new ArrayList<>();
+
+    private RegistryProfiler() {}
+
+    /**
+     * Checks if the profiler is enabled.
+     * @return True if registry suppliers are being timed.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Wraps a registry supplier so its execution is timed.
+     * @param kind The kind of entry, e.g. item or block.
+     * @param modId The MOD_ID of the registering mod.
+     * @param id The path of the entry.
+     * @param supplier The supplier to wrap.
+     * @param <T> The type of the entry.
+     * @return The wrapped supplier, or the original one if the profiler is disabled.
+     */
+    public static <T> Supplier<T> wrap(String kind, String modId, String id, Supplier<T> supplier) {
+        if (!ENABLED) return supplier;
+
+        return () -> {
+            var event = new RegistryEntryEvent();
+            event.begin();
+            var start = System.nanoTime();
+            try {
+                return supplier.get();
+            } finally {
+                record(event, kind, modId, id, System.nanoTime() - start);
+            }
+        };
+    }
+
+    /**
+     * Wraps a registry factory so its execution is timed.
+     * @param kind The kind of entry, e.g. item or block.
+     * @param modId The MOD_ID of the registering mod.
+     * @param id The path of the entry.
+     * @param factory The factory to wrap.
+     * @param <P> The type of the factory's argument.
+     * @param <T> The type of the entry.
+     * @return The wrapped factory, or the original one if the profiler is disabled.
+     */
+    public static <P, T> Function<P, T> wrap(String kind, String modId, String id, Function<P, T> factory) {
+        if (!ENABLED) return factory;
+
+        return arg -> {
+            var event = new RegistryEntryEvent();
+            event.begin();
+            var start = System.nanoTime();
+            try {
+                return factory.apply(arg);
+            } finally {
+                record(event, kind, modId, id, System.nanoTime() - start);
+            }
+        };
+    }
+
+    private static void record(RegistryEntryEvent event, String kind, String modId, String id, long nanos) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.kind = kind;
+            event.modId = modId;
+            event.entry = id;
+            event.commit();
+        }
+
+        synchronized (SAMPLES) {
+            SAMPLES.add(new Sample(kind, modId, id, nanos));
+        }
+    }
+
+    /**
+     * Logs the per-mod totals and the slowest entries recorded so far. Called by the lib once loading completes.
+     */
+    public static void report() {
+        if (!ENABLED) return;
+
+        List<Sample> samples;
+        synchronized (SAMPLES) {
+            samples = new ArrayList<>(SAMPLES);
+        }
+
+        if (samples.isEmpty()) {
+            LOG.info("Registry profiling is enabled, but no entries were recorded");
+            return;
+        }
+
+        Map<String, long[]> totals = new TreeMap<>();
+        for (var sample : samples) {
+            var total = totals.computeIfAbsent(sample.modId(), m -> new long[2]);
+            total[0]++;
+            total[1] += sample.nanos();
+        }
+
+        LOG.info("Registry supplier times per mod:");
+        totals.forEach((modId, total) ->
+                LOG.info("  {}: {} entries, {} ms", modId, total[0], String.format("%.2f", total[1] / 1e6)));
+
+        samples.sort(Comparator.comparingLong(Sample::nanos).reversed());
+        LOG.info("Slowest {} registry suppliers:", Math.min(SLOWEST_COUNT, samples.size()));
+        for (var sample : samples.subList(0, Math.min(SLOWEST_COUNT, samples.size()))) {
+            LOG.info(
+                    "  {} {}:{} took {} ms",
+                    sample.kind(),
+                    sample.modId(),
+                    sample.id(),
+                    String.format("%.3f", sample.nanos() / 1e6));
+        }
+    }
+
+    private record Sample(String kind, String modId, String id, long nanos) {}
+}
@@ -0,0 +1,107 @@
+package net.pedroksl.ae2addonlib.registry.helpers;
+
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.fml.ModContainer;
+import net.neoforged.fml.config.ModConfig;
+import net.neoforged.neoforge.common.ModConfigSpec;
+import net.pedroksl.ae2addonlib.registry.ConfigRegistry;
+
+/**
+ * <p>Lib provided config.</p>
+ * This class contains the lib's own performance tunables. Every value is a snapshot, so it can be read on hot paths
+ * and is updated live whenever the config files are reloaded.
+ */
+public class LibConfig extends ConfigRegistry {
+
+    /**
+     * The class' singleton instance, used to request registration.
+     */
+    public static final LibConfig INSTANCE = new LibConfig();
+
+    private static final ModConfigSpec CLIENT_SPEC;
+    private static final ModConfigSpec COMMON_SPEC;
+
+    /**
+     * Max number of fluids kept in the gui fluid render cache. The cache is flushed when it grows past this size.
+     */
+    public static final IntSnapshot FLUID_RENDER_CACHE_SIZE;
+
+    /**
+     * Whether fluid tank interactions are applied on the client before the server confirms them.
+     */
+    public static final BooleanSnapshot PREDICT_TANK_INTERACTIONS;
+
+    /**
+     * Time, in milliseconds, after which an unconfirmed tank prediction is rolled back.
+     */
+    public static final IntSnapshot PREDICTION_TIMEOUT;
+
+    /**
+     * Min number of ticks between two presses of the same hotkey handled for the same player. Disabled by default.
+     */
+    public static final IntSnapshot HOTKEY_COOLDOWN;
+
+    /**
+     * Whether the lib's runtime metrics are recorded.
+     */
+    public static final BooleanSnapshot ENABLE_METRICS;
+
+    static {
+        var client = new ModConfigSpec.Builder();
+        client.push("performance");
+        FLUID_RENDER_CACHE_SIZE = cached(define(
+                client,
+                "fluidRenderCacheSize",
+                256,
+                16,
+                4096,
+                "Max number of fluids whose sprite and tint are cached for gui rendering."));
+        PREDICT_TANK_INTERACTIONS = cached(define(
+                client,
+                "predictTankInteractions",
+                true,
+                "Show the result of fluid tank interactions before the server confirms them."));
+        PREDICTION_TIMEOUT = cached(define(
+                client,
+                "predictionTimeoutMs",
+                2000,
+                100,
+                30000,
+                "Time in milliseconds after which an unconfirmed fluid tank prediction is rolled back."));
+        client.pop();
+        CLIENT_SPEC = build(client);
+
+        var common = new ModConfigSpec.Builder();
+        common.push("performance");
+        HOTKEY_COOLDOWN = cached(define(
+                common,
+                "hotkeyCooldownTicks",
+                0,
+                0,
+                200,
+                "Min number of ticks between two presses of the same hotkey by a player. Set to 0 to disable."));
+        common.pop();
+
+        common.push("instrumentation");
+        ENABLE_METRICS = cached(define(
+                common,
+                "enableMetrics",
+                false,
+                "Record timings of the lib's hot paths, viewable with /ae2addonlib perf. Adds a small overhead."));
+        common.pop();
+        COMMON_SPEC = build(common);
+    }
+
+    LibConfig() {}
+
+    /**
+     * Registers the lib's config files and the listeners that keep the snapshots updated.
+     * @param container The lib's mod container.
+     * @param eventBus The lib's mod event bus.
+     */
+    public void register(ModContainer container, IEventBus eventBus) {
+        container.registerConfig(ModConfig.Type.CLIENT, CLIENT_SPEC);
+        container.registerConfig(ModConfig.Type.COMMON, COMMON_SPEC);
+        registerSnapshotListeners(eventBus);
+    }
+}
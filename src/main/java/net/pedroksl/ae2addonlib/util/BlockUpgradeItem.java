@@ -1,6 +1,7 @@
 package net.pedroksl.ae2addonlib.util;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.util.ProblemReporter;
 import net.minecraft.world.level.Level;
@@ -8,6 +9,7 @@ import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.storage.TagValueInput;
 import net.pedroksl.ae2addonlib.core.AE2AddonLib;
+import net.pedroksl.ae2addonlib.core.jfr.BlockUpgradeEvent;
 
 import appeng.blockentity.AEBaseBlockEntity;
 import appeng.items.AEBaseItem;
@@ -36,6 +38,24 @@ public class BlockUpgradeItem extends AEBaseItem {
      */
     protected void replaceTile(
             Level world, BlockPos pos, BlockEntity oldTile, BlockEntity newTile, BlockState newBlock) {
+        var event = new BlockUpgradeEvent();
+        event.begin();
+        var oldBlock = oldTile.getBlockState();
+        try {
+            replace(world, pos, oldTile, newTile, newBlock);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.modId = BuiltInRegistries.ITEM.getKey(this).getNamespace();
+                event.from = BuiltInRegistries.BLOCK.getKey(oldBlock.getBlock()).toString();
+                event.to = BuiltInRegistries.BLOCK.getKey(newBlock.getBlock()).toString();
+                event.commit();
+            }
+        }
+    }
+
+    private static void replace(
+            Level world, BlockPos pos, BlockEntity oldTile, BlockEntity newTile, BlockState newBlock) {
         CompoundTag contents = oldTile.saveWithFullMetadata(world.registryAccess());
         world.removeBlockEntity(pos);
         world.removeBlock(pos, false);
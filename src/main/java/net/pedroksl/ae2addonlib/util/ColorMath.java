@@ -0,0 +1,147 @@
+package net.pedroksl.ae2addonlib.util;
+
+import net.minecraft.util.Mth;
+
+/**
+ * <p>Allocation-free color helpers that work directly on packed ARGB ints.</p>
+ * These mirror the conversions offered by {@link Colors}, but never create objects, which makes them the preferred
+ * choice for code that runs every frame, such as widget rendering.
+ */
+public final class ColorMath {
+
+    private ColorMath() {}
+
+    /**
+     * Extracts the alpha channel of a packed color.
+     * @param argb The color in ARGB color space.
+     * @return The alpha value, from 0 to 255.
+     */
+    public static int alpha(int argb) {
+        return argb >>> 24;
+    }
+
+    /**
+     * Extracts the red channel of a packed color.
+     * @param argb The color in ARGB color space.
+     * @return The red value, from 0 to 255.
+     */
+    public static int red(int argb) {
+        return argb >> 16 & 0xFF;
+    }
+
+    /**
+     * Extracts the green channel of a packed color.
+     * @param argb The color in ARGB color space.
+     * @return The green value, from 0 to 255.
+     */
+    public static int green(int argb) {
+        return argb >> 8 & 0xFF;
+    }
+
+    /**
+     * Extracts the blue channel of a packed color.
+     * @param argb The color in ARGB color space.
+     * @return The blue value, from 0 to 255.
+     */
+    public static int blue(int argb) {
+        return argb & 0xFF;
+    }
+
+    /**
+     * Packs the individual channels into an ARGB int.
+     * @param alpha The alpha value, from 0 to 255.
+     * @param red The red value, from 0 to 255.
+     * @param green The green value, from 0 to 255.
+     * @param blue The blue value, from 0 to 255.
+     * @return The color in ARGB color space.
+     */
+    public static int argb(int alpha, int red, int green, int blue) {
+        return (alpha & 0xFF) << 24 | (red & 0xFF) << 16 | (green & 0xFF) << 8 | blue & 0xFF;
+    }
+
+    /**
+     * Replaces the alpha channel of a packed color.
+     * @param argb The color in ARGB or RGB color space.
+     * @param alpha The new alpha value, from 0 to 255.
+     * @return The color in ARGB color space with the given alpha.
+     */
+    public static int withAlpha(int argb, int alpha) {
+        return (alpha & 0xFF) << 24 | argb & 0xFFFFFF;
+    }
+
+    /**
+     * Converts a color from the HSV color space to ARGB. Assumes maximum alpha.
+     * @param hue The color hue.
+     * @param saturation The color saturation.
+     * @param value The color value.
+     * @return The color in ARGB color space.
+     */
+    public static int hsvToArgb(float hue, float saturation, float value) {
+        return hsvToArgb(hue, saturation, value, 255);
+    }
+
+    /**
+     * Converts a color from the HSV color space to ARGB.
+     * @param hue The color hue.
+     * @param saturation The color saturation.
+     * @param value The color value.
+     * @param alpha The alpha value, from 0 to 255.
+     * @return The color in ARGB color space.
+     */
+    public static int hsvToArgb(float hue, float saturation, float value, int alpha) {
+        return Mth.hsvToArgb(hue - 0.5e-7f, saturation, value, alpha);
+    }
+
+    /**
+     * Calculates the hue of a packed color. The alpha channel is ignored.
+     * @param rgb The color in RGB or ARGB color space.
+     * @return The hue, from 0 to 1.
+     */
+    public static float hue(int rgb) {
+        int red = red(rgb);
+        int green = green(rgb);
+        int blue = blue(rgb);
+        int max = Math.max(red, Math.max(green, blue));
+        int min = Math.min(red, Math.min(green, blue));
+        if (max == min) {
+            return 0f;
+        }
+
+        float range = max - min;
+        float hue;
+        if (red == max) {
+            hue = (green - blue) / range;
+        } else if (green == max) {
+            hue = 2f + (blue - red) / range;
+        } else {
+            hue = 4f + (red - green) / range;
+        }
+
+        hue /= 6f;
+        return hue < 0f ? hue + 1f : hue;
+    }
+
+    /**
+     * Calculates the saturation of a packed color. The alpha channel is ignored.
+     * @param rgb The color in RGB or ARGB color space.
+     * @return The saturation, from 0 to 1.
+     */
+    public static float saturation(int rgb) {
+        int max = Math.max(red(rgb), Math.max(green(rgb), blue(rgb)));
+        if (max == 0) {
+            return 0f;
+        }
+
+        int min = Math.min(red(rgb), Math.min(green(rgb), blue(rgb)));
+        return (max - min) / (float) max;
+    }
+
+    /**
+     * Calculates the value (brightness) of a packed color. The alpha channel is ignored.
+     * @param rgb The color in RGB or ARGB color space.
+     * @return The value, from 0 to 1.
+     */
+    public static float value(int rgb) {
+        return Math.max(red(rgb), Math.max(green(rgb), blue(rgb))) / 255f;
+    }
+}
@@ -20,7 +20,7 @@ public record ColoredItemTintSource(Colors color) implements net.minecraft.clien
 
     @Override
     public int calculate(ItemStack itemStack, @Nullable ClientLevel clientLevel, @Nullable LivingEntity livingEntity) {
-        return this.color.argb(255);
+        return this.color.rgb();
     }
 
     @Override
@@ -1,115 +1,124 @@
 package net.pedroksl.ae2addonlib.util;
 
-import java.awt.*;
-
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 
 import org.jetbrains.annotations.NotNull;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+
 import net.minecraft.util.ARGB;
 import net.minecraft.util.ExtraCodecs;
-import net.minecraft.util.Mth;
 
 /**
- * Helper class used to create/convert colors to/from different color spaces.
+ * <p>Helper class used to create/convert colors to/from different color spaces.</p>
+ * Colors that are decoded or shared, like the built-in constants, are interned in a palette through {@link #intern(int)},
+ * so equal colors resolve to the same instance.
  */
 @SuppressWarnings("unused")
 public final class Colors {
 
+    private static final Int2ObjectMap<Colors> PALETTE = new Int2ObjectOpenHashMap<>();
+
     /**
      * A light gray color with a blue hue.
      */
-    public static final Colors LIGHT_GRAY_BLUE = Colors.ofArgb(0xFFADB0C4);
+    public static final Colors LIGHT_GRAY_BLUE = Colors.intern(0xFFADB0C4);
 
     /**
      * A dark gray color with a blue hue.
      */
-    public static final Colors DARK_GRAY_BLUE = Colors.ofArgb(0xFF413F54);
+    public static final Colors DARK_GRAY_BLUE = Colors.intern(0xFF413F54);
 
     /**
      * A light purple color.
      */
-    public static final Colors LIGHT_PURPLE = Colors.ofArgb(0x787d53c1);
+    public static final Colors LIGHT_PURPLE = Colors.intern(0x787d53c1);
 
     /**
      * A purple color.
      */
-    public static final Colors PURPLE = Colors.ofArgb(0xFF7110a5);
+    public static final Colors PURPLE = Colors.intern(0xFF7110a5);
 
     /**
      * The color white.
      */
-    public static final Colors WHITE = new Colors(255, 255, 255);
+    public static final Colors WHITE = Colors.intern(255, 255, 255, 255);
 
     /**
      * The color light gray.
      */
-    public static final Colors LIGHT_GRAY = new Colors(192, 192, 192);
+    public static final Colors LIGHT_GRAY = Colors.intern(255, 192, 192, 192);
 
     /**
      * The color gray.
      */
-    public static final Colors GRAY = new Colors(128, 128, 128);
+    public static final Colors GRAY = Colors.intern(255, 128, 128, 128);
 
     /**
      * The color dark gray.
      */
-    public static final Colors DARK_GRAY = new Colors(64, 64, 64);
+    public static final Colors DARK_GRAY = Colors.intern(255, 64, 64, 64);
 
     /**
      * The color black.
      */
-    public static final Colors BLACK = new Colors(0, 0, 0);
+    public static final Colors BLACK = Colors.intern(255, 0, 0, 0);
 
     /**
      * The color red.
      */
-    public static final Colors RED = new Colors(255, 0, 0);
+    public static final Colors RED = Colors.intern(255, 255, 0, 0);
 
     /**
      * The color pink.
      */
-    public static final Colors PINK = new Colors(255, 175, 175);
+    public static final Colors PINK = Colors.intern(255, 255, 175, 175);
 
     /**
      * The color orange.
      */
-    public static final Colors ORANGE = new Colors(255, 200, 0);
+    public static final Colors ORANGE = Colors.intern(255, 255, 200, 0);
 
     /**
      * The color yellow.
      */
-    public static final Colors YELLOW = new Colors(255, 255, 0);
+    public static final Colors YELLOW = Colors.intern(255, 255, 255, 0);
 
     /**
      * The color green.
      */
-    public static final Colors GREEN = new Colors(0, 255, 0);
+    public static final Colors GREEN = Colors.intern(255, 0, 255, 0);
 
     /**
      * The color magenta.
      */
-    public static final Colors MAGENTA = new Colors(255, 0, 255);
+    public static final Colors MAGENTA = Colors.intern(255, 255, 0, 255);
 
     /**
      * The color cyan.
      */
-    public static final Colors CYAN = new Colors(0, 255, 255);
+    public static final Colors CYAN = Colors.intern(255, 0, 255, 255);
 
     /**
      * The color blue.
      */
-    public static final Colors BLUE = new Colors(0, 0, 255);
+    public static final Colors BLUE = Colors.intern(255, 0, 0, 255);
 
+    /**
+     * Codec for colors. Decoded colors are interned in the palette.
+     */
     public static final Codec<Colors> CODEC = RecordCodecBuilder.create(
             builder -> builder.group(ExtraCodecs.POSITIVE_INT.fieldOf("argb").forGetter(Colors::argb))
-                    .apply(builder, Colors::ofArgb));
+                    .apply(builder, Colors::intern));
 
     private final int red;
     private final int green;
     private final int blue;
     private final int alpha;
+    private final int argb;
+    private final int rgb;
 
     Colors(int red, int green, int blue) {
         this(red, green, blue, 255);
@@ -120,6 +129,31 @@ public final class Colors {
         this.green = green;
         this.blue = blue;
         this.alpha = alpha;
+        this.argb = ARGB.color(alpha, red, green, blue);
+        this.rgb = ARGB.color(red, green, blue);
+    }
+
+    /**
+     * Gets the canonical instance of a color from the palette, creating it if it is not there yet.
+     * @param color The int value of the color in ARGB color space.
+     * @return The interned Colors instance.
+     */
+    public static Colors intern(int color) {
+        synchronized (PALETTE) {
+            return PALETTE.computeIfAbsent(color, Colors::ofArgb);
+        }
+    }
+
+    /**
+     * Gets the canonical instance of a color from the palette, creating it if it is not there yet.
+     * @param alpha The alpha value, from 0 to 255.
+     * @param red The red value, from 0 to 255.
+     * @param green The green value, from 0 to 255.
+     * @param blue The blue value, from 0 to 255.
+     * @return The interned Colors instance.
+     */
+    public static Colors intern(int alpha, int red, int green, int blue) {
+        return intern(ColorMath.argb(alpha, red, green, blue));
     }
 
     /**
@@ -158,7 +192,7 @@ public final class Colors {
      * @return The constructed Colors instance.
      */
     public static Colors ofHsv(float hue, float saturation, float value) {
-        return ofArgb(Mth.hsvToArgb(hue - 0.5e-7f, saturation, value, 255));
+        return ofArgb(ColorMath.hsvToArgb(hue, saturation, value));
     }
 
     /**
@@ -170,7 +204,7 @@ public final class Colors {
      * @return The constructed Colors instance.
      */
     public static @NotNull Colors ofHsv(float hue, float saturation, float value, float alpha) {
-        return ofArgb(Mth.hsvToArgb(hue - 0.5e-7f, saturation, value, (int) alpha * 255));
+        return ofArgb(ColorMath.hsvToArgb(hue, saturation, value, (int) (alpha * 255)));
     }
 
     /**
@@ -210,7 +244,7 @@ public final class Colors {
      * @return The color in ARGB color space as an int value.
      */
     public int argb() {
-        return ARGB.color(this.alpha, this.red, this.green, this.blue);
+        return this.argb;
     }
 
     /**
@@ -227,7 +261,7 @@ public final class Colors {
      * @return The color in RGB color space.
      */
     public int rgb() {
-        return ARGB.color(this.red, this.green, this.blue);
+        return this.rgb;
     }
 
     /**
@@ -235,9 +269,18 @@ public final class Colors {
      * @return The color in HSV color space.
      */
     public HSV hsv() {
-        float[] vals = new float[3];
-        Color.RGBtoHSB(this.red, this.green, this.blue, vals);
-        return new HSV(vals[0], vals[1], vals[2]);
+        var rgb = rgb();
+        return new HSV(ColorMath.hue(rgb), ColorMath.saturation(rgb), ColorMath.value(rgb));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Colors other && this.argb == other.argb;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.argb;
     }
 
     /**
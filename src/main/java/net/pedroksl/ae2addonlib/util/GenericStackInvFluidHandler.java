@@ -0,0 +1,51 @@
+package net.pedroksl.ae2addonlib.util;
+
+import java.util.function.IntPredicate;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.neoforged.neoforge.transfer.fluid.FluidResource;
+
+import appeng.api.stacks.AEFluidKey;
+import appeng.api.stacks.AEKeyType;
+import appeng.helpers.externalstorage.GenericStackInv;
+
+/**
+ * Exposes the fluid slots of a {@link GenericStackInv} as a fluid transfer handler.
+ * @see GenericStackInvResourceHandler
+ */
+public class GenericStackInvFluidHandler extends GenericStackInvResourceHandler<FluidResource, AEFluidKey> {
+
+    /**
+     * Constructs a handler that allows insertion and extraction on every slot.
+     * @param inv The inventory to expose.
+     */
+    public GenericStackInvFluidHandler(GenericStackInv inv) {
+        this(inv, slot -> true, slot -> true);
+    }
+
+    /**
+     * Constructs a handler with per-slot insertion and extraction rules.
+     * @param inv The inventory to expose.
+     * @param canInsert Predicate that checks if a slot can be inserted into.
+     * @param canExtract Predicate that checks if a slot can be extracted from.
+     */
+    public GenericStackInvFluidHandler(GenericStackInv inv, IntPredicate canInsert, IntPredicate canExtract) {
+        super(inv, AEFluidKey.class, AEKeyType.fluids(), canInsert, canExtract);
+    }
+
+    @Override
+    protected FluidResource toResource(AEFluidKey key) {
+        return FluidResource.of(key.toStack(1));
+    }
+
+    @Override
+    protected @Nullable AEFluidKey toKey(FluidResource resource) {
+        return AEFluidKey.of(resource.toStack(1));
+    }
+
+    @Override
+    protected FluidResource emptyResource() {
+        return FluidResource.EMPTY;
+    }
+}
@@ -0,0 +1,51 @@
+package net.pedroksl.ae2addonlib.util;
+
+import java.util.function.IntPredicate;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.neoforged.neoforge.transfer.item.ItemResource;
+
+import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.AEKeyType;
+import appeng.helpers.externalstorage.GenericStackInv;
+
+/**
+ * Exposes the item slots of a {@link GenericStackInv} as an item transfer handler.
+ * @see GenericStackInvResourceHandler
+ */
+public class GenericStackInvItemHandler extends GenericStackInvResourceHandler<ItemResource, AEItemKey> {
+
+    /**
+     * Constructs a handler that allows insertion and extraction on every slot.
+     * @param inv The inventory to expose.
+     */
+    public GenericStackInvItemHandler(GenericStackInv inv) {
+        this(inv, slot -> true, slot -> true);
+    }
+
+    /**
+     * Constructs a handler with per-slot insertion and extraction rules.
+     * @param inv The inventory to expose.
+     * @param canInsert Predicate that checks if a slot can be inserted into.
+     * @param canExtract Predicate that checks if a slot can be extracted from.
+     */
+    public GenericStackInvItemHandler(GenericStackInv inv, IntPredicate canInsert, IntPredicate canExtract) {
+        super(inv, AEItemKey.class, AEKeyType.items(), canInsert, canExtract);
+    }
+
+    @Override
+    protected ItemResource toResource(AEItemKey key) {
+        return ItemResource.of(key.toStack(1));
+    }
+
+    @Override
+    protected @Nullable AEItemKey toKey(ItemResource resource) {
+        return AEItemKey.of(resource.toStack(1));
+    }
+
+    @Override
+    protected ItemResource emptyResource() {
+        return ItemResource.EMPTY;
+    }
+}
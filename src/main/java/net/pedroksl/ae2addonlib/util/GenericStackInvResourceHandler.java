@@ -0,0 +1,245 @@
+package net.pedroksl.ae2addonlib.util;
+
+import java.util.function.IntPredicate;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.neoforged.neoforge.transfer.ResourceHandler;
+import net.neoforged.neoforge.transfer.resource.Resource;
+import net.neoforged.neoforge.transfer.transaction.SnapshotJournal;
+import net.neoforged.neoforge.transfer.transaction.TransactionContext;
+
+import appeng.api.stacks.AEKey;
+import appeng.api.stacks.AEKeyType;
+import appeng.api.stacks.GenericStack;
+import appeng.helpers.externalstorage.GenericStackInv;
+
+/**
+ * <p>Exposes a {@link GenericStackInv} as a NeoForge {@link ResourceHandler}, so pipes and other machines can
+ * interact with it.</p>
+ * Only slots holding keys of the handler's type are visible. Each slot has its own journal, which stages the changes
+ * made to that slot during a transaction and snapshots them once per transaction depth, so transfers never copy the
+ * whole inventory. The inventory itself is only written when the root transaction commits, so its change listener
+ * fires once per modified slot and never for aborted transfers.
+ * @param <T> The transfer resource type.
+ * @param <K> The AE2 key type.
+ * @see GenericStackInvFluidHandler
+ * @see GenericStackInvItemHandler
+ */
+public abstract class GenericStackInvResourceHandler<T extends Resource, K extends AEKey>
+        implements ResourceHandler<T> {
+
+    private final GenericStackInv inv;
+    private final Class<K> keyClass;
+    private final AEKeyType keyType;
+    private final IntPredicate canInsert;
+    private final IntPredicate canExtract;
+    private final SlotJournal[] journals;
+
+    @Nullable
+    private T lastResource;
+
+    @Nullable
+    private K lastKey;
+
+    /**
+     * Constructs the handler.
+     * @param inv The inventory to expose.
+     * @param keyClass The class of the AE2 keys handled.
+     * @param keyType The AE2 key type handled.
+     * @param canInsert Predicate that checks if a slot can be inserted into, such as {@code handler::canInsertInto}.
+     * @param canExtract Predicate that checks if a slot can be extracted from,
+     *                   such as {@code handler::canExtractFromTank}.
+     */
+    protected GenericStackInvResourceHandler(
+            GenericStackInv inv,
+            Class<K> keyClass,
+            AEKeyType keyType,
+            IntPredicate canInsert,
+            IntPredicate canExtract) {
+        this.inv = inv;
+        this.keyClass = keyClass;
+        this.keyType = keyType;
+        this.canInsert = canInsert;
+        this.canExtract = canExtract;
+        this.journals = new SlotJournal[inv.size()];
+    }
+
+    /**
+     * Converts an AE2 key to a transfer resource.
+     * @param key The key.
+     * @return The matching resource.
+     */
+    protected abstract T toResource(K key);
+
+    /**
+     * Converts a transfer resource to an AE2 key.
+     * @param resource The resource. Never empty.
+     * @return The matching key, or null if it can't be represented.
+     */
+    @Nullable
+    protected abstract K toKey(T resource);
+
+    /**
+     * Getter for the empty resource of this handler's type.
+     * @return The empty resource.
+     */
+    protected abstract T emptyResource();
+
+    /**
+     * Getter for the exposed inventory.
+     * @return The inventory.
+     */
+    public GenericStackInv getInventory() {
+        return this.inv;
+    }
+
+    @Override
+    public int size() {
+        return this.inv.size();
+    }
+
+    @Override
+    public T getResource(int index) {
+        var key = getKey(index);
+        return key != null ? toResource(key) : emptyResource();
+    }
+
+    @Override
+    public long getAmountAsLong(int index) {
+        var stack = getStack(index);
+        return stack != null && this.keyClass.isInstance(stack.what()) ? stack.amount() : 0;
+    }
+
+    @Override
+    public long getCapacityAsLong(int index, T resource) {
+        if (resource.isEmpty()) {
+            return this.inv.getCapacity(this.keyType);
+        }
+
+        var key = resolveKey(resource);
+        return key != null && this.inv.isAllowedIn(index, key) ? this.inv.getMaxAmount(key) : 0;
+    }
+
+    @Override
+    public boolean isValid(int index, T resource) {
+        if (resource.isEmpty()) return false;
+
+        var key = resolveKey(resource);
+        return key != null && this.inv.isAllowedIn(index, key) && this.inv.getMaxAmount(key) > 0;
+    }
+
+    @Override
+    public int insert(int index, T resource, int amount, TransactionContext transaction) {
+        if (amount <= 0 || resource.isEmpty() || !this.canInsert.test(index)) return 0;
+
+        var key = resolveKey(resource);
+        if (key == null || !this.inv.isAllowedIn(index, key)) return 0;
+
+        var current = getStack(index);
+        if (current != null && !current.what().equals(key)) return 0;
+
+        var stored = current != null ? current.amount() : 0;
+        var inserted = (int) Math.min(amount, this.inv.getMaxAmount(key) - stored);
+        if (inserted <= 0) return 0;
+
+        var journal = getJournal(index);
+        journal.updateSnapshots(transaction);
+        journal.stage(new GenericStack(key, stored + inserted));
+        return inserted;
+    }
+
+    @Override
+    public int extract(int index, T resource, int amount, TransactionContext transaction) {
+        if (amount <= 0 || resource.isEmpty() || !this.canExtract.test(index)) return 0;
+
+        var key = resolveKey(resource);
+        if (key == null) return 0;
+
+        var current = getStack(index);
+        if (current == null || !current.what().equals(key)) return 0;
+
+        var extracted = (int) Math.min(amount, current.amount());
+        if (extracted <= 0) return 0;
+
+        var remaining = current.amount() - extracted;
+        var journal = getJournal(index);
+        journal.updateSnapshots(transaction);
+        journal.stage(remaining > 0 ? new GenericStack(key, remaining) : null);
+        return extracted;
+    }
+
+    @Nullable
+    private GenericStack getStack(int index) {
+        var journal = this.journals[index];
+        return journal != null && journal.staged ? journal.stack : this.inv.getStack(index);
+    }
+
+    @Nullable
+    private K getKey(int index) {
+        var stack = getStack(index);
+        if (stack == null) return null;
+
+        var what = stack.what();
+        return this.keyClass.isInstance(what) ? this.keyClass.cast(what) : null;
+    }
+
+    @Nullable
+    private K resolveKey(T resource) {
+        // Pipes usually move the same resource over and over, so skip the conversion when it repeats
+        if (!resource.equals(this.lastResource)) {
+            this.lastKey = toKey(resource);
+            this.lastResource = resource;
+        }
+        return this.lastKey;
+    }
+
+    private SlotJournal getJournal(int index) {
+        var journal = this.journals[index];
+        if (journal == null) {
+            journal = new SlotJournal(index);
+            this.journals[index] = journal;
+        }
+        return journal;
+    }
+
+    private record SlotState(boolean staged, @Nullable GenericStack stack) {}
+
+    private class SlotJournal extends SnapshotJournal<SlotState> {
+        private final int slot;
+        private boolean staged = false;
+
+        @Nullable
+        private GenericStack stack;
+
+        private SlotJournal(int slot) {
+            this.slot = slot;
+        }
+
+        private void stage(@Nullable GenericStack stack) {
+            this.staged = true;
+            this.stack = stack;
+        }
+
+        @Override
+        protected SlotState createSnapshot() {
+            return new SlotState(this.staged, this.stack);
+        }
+
+        @Override
+        protected void revertToSnapshot(SlotState snapshot) {
+            this.staged = snapshot.staged();
+            this.stack = snapshot.stack();
+        }
+
+        @Override
+        protected void onRootCommit(SlotState originalState) {
+            if (!this.staged) return;
+
+            var stack = this.stack;
+            this.staged = false;
+            this.stack = null;
+            inv.setStack(this.slot, stack);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package net.pedroksl.ae2addonlib.util;
+
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import com.mojang.logging.LogUtils;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import appeng.api.config.Actionable;
+import appeng.api.networking.IGrid;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.stacks.AEKey;
+import appeng.api.storage.StorageHelper;
+import appeng.helpers.externalstorage.GenericStackInv;
+
+/**
+ * <p>Moves the contents of a {@link GenericStackInv} tank directly to or from the storage of an {@link IGrid}.</p>
+ * The transfer should be ticked by the host, usually from its block entity ticker. Transfers are batched: every
+ * {@code interval} ticks, up to {@code maxPerTick * interval} units are moved across all slots, simulating against
+ * the network before committing anything. The grid is provided by a supplier, so it can come from the host's own node
+ * or from a linked item, e.g. {@code () -> item.getLinkedGrid(stack, level)} for an
+ * {@link net.pedroksl.ae2addonlib.api.IGridLinkedItem}.
+ */
+public class GridTankTransfer {
+    private static final Logger LOG = LogUtils.getLogger();
+
+    /**
+     * The direction of the transfer.
+     */
+    public enum Mode {
+        /**
+         * Moves the tank contents into the network.
+         */
+        EXPORT,
+        /**
+         * Fills the tank from the network.
+         */
+        IMPORT
+    }
+
+    private final GenericStackInv tank;
+    private final Supplier<@Nullable IGrid> grid;
+    private final IActionSource source;
+    private final Mode mode;
+    private final long maxPerTick;
+    private final int interval;
+    private final IntFunction<@Nullable AEKey> importFilter;
+
+    private int ticksSinceTransfer = 0;
+
+    /**
+     * Constructs a transfer. When importing, each slot is topped up with the key it already holds.
+     * @param tank The tank to transfer from or to.
+     * @param grid Supplier for the grid. May return null when the host is not connected.
+     * @param source The action source used for the network operations.
+     * @param mode The direction of the transfer.
+     * @param maxPerTick The max amount moved per tick, across all slots.
+     * @param interval The number of ticks between each batch.
+     */
+    public GridTankTransfer(
+            GenericStackInv tank,
+            Supplier<@Nullable IGrid> grid,
+            IActionSource source,
+            Mode mode,
+            long maxPerTick,
+            int interval) {
+        this(tank, grid, source, mode, maxPerTick, interval, slot -> {
+            var stack = tank.getStack(slot);
+            return stack != null ? stack.what() : null;
+        });
+    }
+
+    /**
+     * Constructs a transfer with a custom import filter.
+     * @param tank The tank to transfer from or to.
+     * @param grid Supplier for the grid. May return null when the host is not connected.
+     * @param source The action source used for the network operations.
+     * @param mode The direction of the transfer.
+     * @param maxPerTick The max amount moved per tick, across all slots.
+     * @param interval The number of ticks between each batch.
+     * @param importFilter Function that returns the key to import into a slot, or null to skip it.
+     */
+    public GridTankTransfer(
+            GenericStackInv tank,
+            Supplier<@Nullable IGrid> grid,
+            IActionSource source,
+            Mode mode,
+            long maxPerTick,
+            int interval,
+            IntFunction<@Nullable AEKey> importFilter) {
+        if (maxPerTick <= 0 || interval <= 0) {
+            LOG.error("Invalid grid tank transfer rate: {} per tick every {} ticks", maxPerTick, interval);
+            throw new IllegalArgumentException();
+        }
+
+        this.tank = tank;
+        this.grid = grid;
+        this.source = source;
+        this.mode = mode;
+        this.maxPerTick = maxPerTick;
+        this.interval = interval;
+        this.importFilter = importFilter;
+    }
+
+    /**
+     * Advances the transfer by one tick, moving a batch once the interval has passed.
+     * @return The amount moved during this tick.
+     */
+    public long tick() {
+        if (++this.ticksSinceTransfer < this.interval) return 0;
+
+        this.ticksSinceTransfer = 0;
+        return transfer(this.maxPerTick * this.interval);
+    }
+
+    /**
+     * Immediately moves up to a given amount, ignoring the interval.
+     * @param budget The max amount to move, across all slots.
+     * @return The amount moved.
+     */
+    public long transfer(long budget) {
+        var grid = this.grid.get();
+        if (grid == null || budget <= 0) return 0;
+
+        long moved = 0;
+        for (int slot = 0; slot < this.tank.size() && moved < budget; slot++) {
+            moved += switch (this.mode) {
+                case EXPORT -> exportSlot(grid, slot, budget - moved);
+                case IMPORT -> importSlot(grid, slot, budget - moved);
+            };
+        }
+        return moved;
+    }
+
+    /**
+     * Getter for the transfer direction.
+     * @return The transfer direction.
+     */
+    public Mode getMode() {
+        return this.mode;
+    }
+
+    private long exportSlot(IGrid grid, int slot, long budget) {
+        var stack = this.tank.getStack(slot);
+        if (stack == null) return 0;
+
+        var what = stack.what();
+        var energy = grid.getEnergyService();
+        var storage = grid.getStorageService().getInventory();
+
+        // Only move what both sides accept, so leftovers are the exception rather than the rule
+        var toMove = this.tank.extract(slot, what, Math.min(stack.amount(), budget), Actionable.SIMULATE);
+        toMove = StorageHelper.poweredInsert(energy, storage, what, toMove, this.source, Actionable.SIMULATE);
+        if (toMove <= 0) return 0;
+
+        var extracted = this.tank.extract(slot, what, toMove, Actionable.MODULATE);
+        if (extracted <= 0) return 0;
+
+        var inserted = StorageHelper.poweredInsert(energy, storage, what, extracted, this.source, Actionable.MODULATE);
+        if (inserted < extracted) {
+            var toReturn = extracted - inserted;
+            var returned = this.tank.insert(slot, what, toReturn, Actionable.MODULATE);
+            if (returned < toReturn) {
+                // The network ignores power for the rest, so it is stored somewhere instead of voided
+                returned += storage.insert(what, toReturn - returned, Actionable.MODULATE, this.source);
+            }
+            if (returned < toReturn) {
+                LOG.error("Grid transfer lost {} of {} while exporting from slot {}", toReturn - returned, what, slot);
+            }
+        }
+        return inserted;
+    }
+
+    private long importSlot(IGrid grid, int slot, long budget) {
+        var what = this.importFilter.apply(slot);
+        if (what == null) return 0;
+
+        var energy = grid.getEnergyService();
+        var storage = grid.getStorageService().getInventory();
+
+        var toMove = this.tank.insert(slot, what, budget, Actionable.SIMULATE);
+        if (toMove <= 0) return 0;
+
+        toMove = StorageHelper.poweredExtraction(energy, storage, what, toMove, this.source, Actionable.SIMULATE);
+        if (toMove <= 0) return 0;
+
+        var extracted =
+                StorageHelper.poweredExtraction(energy, storage, what, toMove, this.source, Actionable.MODULATE);
+        if (extracted <= 0) return 0;
+
+        var inserted = this.tank.insert(slot, what, extracted, Actionable.MODULATE);
+        if (inserted < extracted) {
+            var toReturn = extracted - inserted;
+            var returned = storage.insert(what, toReturn, Actionable.MODULATE, this.source);
+            if (returned < toReturn) {
+                LOG.error("Grid transfer lost {} of {} while importing into slot {}", toReturn - returned, what, slot);
+            }
+        }
+        return inserted;
+    }
+}
@@ -0,0 +1,44 @@
+package net.pedroksl.ae2addonlib.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.text.WordUtils;
+
+import net.neoforged.fml.ModList;
+
+/**
+ * Resolves and caches the display names of mods from their ids. The mod list does not change after loading, so each id
+ * is only resolved once for the whole process.
+ */
+public final class ModDisplayNames {
+
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private ModDisplayNames() {}
+
+    /**
+     * Gets the display name of a mod.
+     * @param modId The mod id, such as the namespace of a registry entry.
+     * @return The display name of the mod, or a capitalized version of the id if no such mod is loaded.
+     */
+    public static String get(String modId) {
+        return CACHE.computeIfAbsent(modId, ModDisplayNames::resolve);
+    }
+
+    @SuppressWarnings("deprecation")
+    private static String resolve(String modId) {
+        if (modId.equals("c")) {
+            return "Common";
+        }
+
+        var container = ModList.get().getModContainerById(modId);
+        if (container.isEmpty()) {
+            container = ModList.get().getModContainerById(modId.replace('_', '-'));
+        }
+
+        return container.isPresent()
+                ? container.get().getModInfo().getDisplayName()
+                : WordUtils.capitalizeFully(modId.replace('_', ' '));
+    }
+}